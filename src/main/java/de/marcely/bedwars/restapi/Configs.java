@@ -1,7 +1,11 @@
 package de.marcely.bedwars.restapi;
 
+import de.marcely.bedwars.restapi.auth.PasswordHash;
 import de.marcely.bedwars.restapi.auth.Permission;
 import de.marcely.bedwars.restapi.auth.User;
+import de.marcely.bedwars.restapi.ratelimit.RateLimitRule;
+import de.marcely.bedwars.restapi.util.CompressionType;
+import de.marcely.bedwars.restapi.util.StorageEndpoint;
 import de.marcely.bedwars.restapi.util.Util;
 import de.marcely.bedwars.tools.YamlConfigurationDescriptor;
 import java.io.File;
@@ -12,7 +16,10 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.bukkit.configuration.Configuration;
 import org.bukkit.configuration.MemoryConfiguration;
@@ -24,11 +31,91 @@ public class Configs {
   public static String host = "localhost";
   public static int port = 8084;
   public static List<String> allowedCorsOrigins = Arrays.asList("*");
+  public static boolean virtualThreads = false;
+  public static int threadPoolMin = 8;
+  public static int threadPoolMax = 64;
+  public static int callbackThreads = 4;
+  public static int acceptors = -1;
+  public static int selectors = -1;
+  public static int idleTimeoutMillis = 30000;
+  public static int requestHeaderSize = 8192;
+  public static boolean http2 = false;
+  public static Map<StorageEndpoint, Integer> storageTimeouts = new EnumMap<>(StorageEndpoint.class);
+  public static int storageTimeoutRetryAfter = 5;
+  public static Map<StorageEndpoint, Integer> bulkheadMaxConcurrent = new EnumMap<>(StorageEndpoint.class);
+  public static Map<StorageEndpoint, Integer> bulkheadMaxQueued = new EnumMap<>(StorageEndpoint.class);
+  public static int leaderboardMaxParallelFetches = 4;
+  public static int leaderboardMaxRanks = 10000;
+  public static int leaderboardCacheMaxPages = 200;
+  public static int leaderboardCacheTtlSeconds = 30;
+  public static boolean leaderboardCacheInvalidateOnStatChange = false;
+  public static int leaderboardStreamMinRanks = 1000;
+  public static int leaderboardSnapshotMaxCount = 100;
+  public static int leaderboardSnapshotTtlSeconds = 300;
+  public static int leaderboardSnapshotMaxPages = 20;
+  public static int paginationDefaultPageSize = 50;
+  public static int paginationMaxPageSize = 200;
+  public static int playerCacheMaxEntries = 1000;
+  public static int playerCacheTtlSeconds = 5;
+  public static int statsBatchMaxPlayers = 100;
+  public static int statsBatchMaxParallelFetches = 8;
+  public static int uuidLookupMaxNames = 500;
+  public static int uuidLookupMaxParallelFetches = 8;
+  public static int uuidCacheMaxEntries = 10000;
+  public static int uuidCacheTtlSeconds = 300;
+  public static boolean snapshotEnabled = true;
+  public static int snapshotRefreshTicks = 10;
+  public static int snapshotMaxAgeSeconds = 10;
+  public static boolean etagsEnabled = true;
+  public static boolean eventStreamEnabled = true;
+  public static boolean metricsEnabled = true;
+  public static int eventStreamMaxSubscribers = 500;
+  public static int eventStreamBufferSize = 256;
+  public static int eventStreamThreads = 4;
+  public static int eventStreamHeartbeatSeconds = 15;
+  public static int eventStreamWriteTimeoutMillis = 5000;
+  public static CompressionType compression = CompressionType.GZIP;
+  public static int compressionGzipLevel = 6;
+  public static int compressionBrotliLevel = 4;
+  public static int compressionMinSize = 1024;
+  public static boolean hashPlainPasswords = false;
+  public static int authCacheMaxEntries = 256;
+  public static int authCacheTtlSeconds = 300;
+  public static int authFailuresBurst = 10;
+  public static int authFailuresPerMinute = 6;
+  public static boolean rateLimitEnabled = true;
+  public static boolean rateLimitByIp = false;
+  public static Map<String, RateLimitRule> rateLimits = new LinkedHashMap<>();
+
+  private static final byte VERSION = 22;
+
+  static {
+    storageTimeouts.put(StorageEndpoint.STATS, 5000);
+    storageTimeouts.put(StorageEndpoint.LEADERBOARD, 15000);
+    storageTimeouts.put(StorageEndpoint.PROPERTIES, 5000);
+    storageTimeouts.put(StorageEndpoint.ACHIEVEMENTS, 5000);
+    storageTimeouts.put(StorageEndpoint.UUID, 5000);
+
+    for (StorageEndpoint endpoint : StorageEndpoint.values()) {
+      bulkheadMaxConcurrent.put(endpoint, 16);
+      bulkheadMaxQueued.put(endpoint, 64);
+    }
+
+    bulkheadMaxConcurrent.put(StorageEndpoint.LEADERBOARD, 8);
+    bulkheadMaxQueued.put(StorageEndpoint.LEADERBOARD, 32);
 
-  private static final byte VERSION = 3;
+    addRateLimit(new RateLimitRule(Permission.PLAYERS_STATS_READ_LEADERBOARD.getValue(), 10, 1));
+    addRateLimit(new RateLimitRule(Permission.PLAYERS_STATS_READ_RANK.getValue(), 20, 2));
+    addRateLimit(new RateLimitRule(Permission.PLAYERS_STATS_READ.getValue(), 60, 10));
+    addRateLimit(new RateLimitRule(Permission.PLAYER_UUID_BY_NAME.getValue(), 60, 10));
+  }
+
+  private static void addRateLimit(RateLimitRule rule) {
+    rateLimits.put(rule.getPermission(), rule);
+  }
 
   private static File getFile(RestApiPlugin plugin) {
-    return new File(plugin.getAddon().getDataFolder(), "configs.yml");
+    return new File(plugin.getAddonDataFolder(), "configs.yml");
   }
 
   public static void load(RestApiPlugin plugin) {
@@ -62,6 +149,126 @@ public class Configs {
     Configs.host = config.getString("host", Configs.host);
     Configs.port = config.getInt("port", Configs.port);
     Configs.allowedCorsOrigins = config.getStringList("allowed-cors-origins");
+    Configs.virtualThreads = config.getBoolean("virtual-threads", Configs.virtualThreads);
+    Configs.threadPoolMin = Math.max(1, config.getInt("thread-pool-min", Configs.threadPoolMin));
+    Configs.threadPoolMax = Math.max(Configs.threadPoolMin, config.getInt("thread-pool-max", Configs.threadPoolMax));
+    Configs.callbackThreads = Math.max(1, config.getInt("callback-threads", Configs.callbackThreads));
+    Configs.acceptors = Math.max(-1, config.getInt("acceptors", Configs.acceptors));
+    Configs.selectors = Math.max(-1, config.getInt("selectors", Configs.selectors));
+    Configs.idleTimeoutMillis = Math.max(1000, config.getInt("idle-timeout-millis", Configs.idleTimeoutMillis));
+    Configs.requestHeaderSize = Math.max(1024, Math.min(65536, config.getInt("request-header-size", Configs.requestHeaderSize)));
+    Configs.http2 = config.getBoolean("http2", Configs.http2);
+
+    {
+      // jetty refuses to start if acceptors and selectors leave no threads for the requests
+      final int reserved = Math.max(0, Configs.acceptors) + Math.max(0, Configs.selectors);
+
+      if (reserved > 0 && Configs.threadPoolMax < reserved + Configs.threadPoolMin) {
+        plugin.getLogger().warning("(Config) thread-pool-max is too low for the configured acceptors and selectors. Raising it to " + (reserved + Configs.threadPoolMin));
+        Configs.threadPoolMax = reserved + Configs.threadPoolMin;
+      }
+    }
+    Configs.storageTimeoutRetryAfter = Math.max(0, config.getInt("storage-timeout-retry-after", Configs.storageTimeoutRetryAfter));
+
+    for (StorageEndpoint endpoint : StorageEndpoint.values()) {
+      final int timeout = config.getInt("storage-timeouts." + endpoint.getId(), Configs.storageTimeouts.get(endpoint));
+
+      if (timeout <= 0) {
+        plugin.getLogger().warning("(Config) storage-timeouts." + endpoint.getId() + " must be greater than 0");
+        continue;
+      }
+
+      Configs.storageTimeouts.put(endpoint, timeout);
+    }
+
+    for (StorageEndpoint endpoint : StorageEndpoint.values()) {
+      final String path = "bulkheads." + endpoint.getId() + ".";
+
+      Configs.bulkheadMaxConcurrent.put(endpoint, Math.max(0, config.getInt(path + "max-concurrent", Configs.bulkheadMaxConcurrent.get(endpoint))));
+      Configs.bulkheadMaxQueued.put(endpoint, Math.max(0, config.getInt(path + "max-queued", Configs.bulkheadMaxQueued.get(endpoint))));
+    }
+
+    Configs.leaderboardMaxParallelFetches = Math.max(1, config.getInt("leaderboard-max-parallel-fetches", Configs.leaderboardMaxParallelFetches));
+    Configs.leaderboardMaxRanks = Math.max(1, config.getInt("leaderboard-max-ranks", Configs.leaderboardMaxRanks));
+    Configs.leaderboardCacheMaxPages = Math.max(0, config.getInt("leaderboard-cache-max-pages", Configs.leaderboardCacheMaxPages));
+    Configs.leaderboardCacheTtlSeconds = Math.max(0, config.getInt("leaderboard-cache-ttl-seconds", Configs.leaderboardCacheTtlSeconds));
+    Configs.leaderboardCacheInvalidateOnStatChange = config.getBoolean("leaderboard-cache-invalidate-on-stat-change", Configs.leaderboardCacheInvalidateOnStatChange);
+    Configs.leaderboardStreamMinRanks = Math.max(0, config.getInt("leaderboard-stream-min-ranks", Configs.leaderboardStreamMinRanks));
+    Configs.leaderboardSnapshotMaxCount = Math.max(1, config.getInt("leaderboard-snapshot-max-count", Configs.leaderboardSnapshotMaxCount));
+    Configs.leaderboardSnapshotTtlSeconds = Math.max(1, config.getInt("leaderboard-snapshot-ttl-seconds", Configs.leaderboardSnapshotTtlSeconds));
+    Configs.leaderboardSnapshotMaxPages = Math.max(1, config.getInt("leaderboard-snapshot-max-pages", Configs.leaderboardSnapshotMaxPages));
+    Configs.paginationMaxPageSize = Math.max(1, config.getInt("pagination-max-page-size", Configs.paginationMaxPageSize));
+    Configs.paginationDefaultPageSize = Math.min(Configs.paginationMaxPageSize, Math.max(1, config.getInt("pagination-default-page-size", Configs.paginationDefaultPageSize)));
+    Configs.playerCacheMaxEntries = Math.max(0, config.getInt("player-cache-max-entries", Configs.playerCacheMaxEntries));
+    Configs.playerCacheTtlSeconds = Math.max(0, config.getInt("player-cache-ttl-seconds", Configs.playerCacheTtlSeconds));
+    Configs.statsBatchMaxPlayers = Math.max(1, Math.min(1000, config.getInt("stats-batch-max-players", Configs.statsBatchMaxPlayers)));
+    Configs.statsBatchMaxParallelFetches = Math.max(1, config.getInt("stats-batch-max-parallel-fetches", Configs.statsBatchMaxParallelFetches));
+    Configs.uuidLookupMaxNames = Math.max(1, Math.min(1000, config.getInt("uuid-lookup-max-names", Configs.uuidLookupMaxNames)));
+    Configs.uuidLookupMaxParallelFetches = Math.max(1, config.getInt("uuid-lookup-max-parallel-fetches", Configs.uuidLookupMaxParallelFetches));
+    Configs.uuidCacheMaxEntries = Math.max(0, config.getInt("uuid-cache-max-entries", Configs.uuidCacheMaxEntries));
+    Configs.uuidCacheTtlSeconds = Math.max(0, config.getInt("uuid-cache-ttl-seconds", Configs.uuidCacheTtlSeconds));
+    Configs.snapshotEnabled = config.getBoolean("snapshot-enabled", Configs.snapshotEnabled);
+    Configs.snapshotRefreshTicks = Math.max(1, config.getInt("snapshot-refresh-ticks", Configs.snapshotRefreshTicks));
+    Configs.snapshotMaxAgeSeconds = Math.max(1, config.getInt("snapshot-max-age-seconds", Configs.snapshotMaxAgeSeconds));
+    Configs.etagsEnabled = config.getBoolean("etags-enabled", Configs.etagsEnabled);
+    Configs.metricsEnabled = config.getBoolean("metrics-enabled", Configs.metricsEnabled);
+    Configs.eventStreamEnabled = config.getBoolean("event-stream-enabled", Configs.eventStreamEnabled);
+    Configs.eventStreamMaxSubscribers = Math.max(0, config.getInt("event-stream-max-subscribers", Configs.eventStreamMaxSubscribers));
+    Configs.eventStreamBufferSize = Math.max(1, config.getInt("event-stream-buffer-size", Configs.eventStreamBufferSize));
+    Configs.eventStreamThreads = Math.max(1, config.getInt("event-stream-threads", Configs.eventStreamThreads));
+    Configs.eventStreamHeartbeatSeconds = Math.max(1, config.getInt("event-stream-heartbeat-seconds", Configs.eventStreamHeartbeatSeconds));
+    Configs.eventStreamWriteTimeoutMillis = Math.max(100, config.getInt("event-stream-write-timeout-millis", Configs.eventStreamWriteTimeoutMillis));
+
+    {
+      final String id = config.getString("compression", Configs.compression.getId());
+      final CompressionType type = CompressionType.fromId(id);
+
+      if (type != null)
+        Configs.compression = type;
+      else
+        plugin.getLogger().warning("(Config) Unknown compression type \"" + id + "\"");
+    }
+
+    Configs.compressionGzipLevel = Math.max(1, Math.min(9, config.getInt("compression-gzip-level", Configs.compressionGzipLevel)));
+    Configs.compressionBrotliLevel = Math.max(0, Math.min(11, config.getInt("compression-brotli-level", Configs.compressionBrotliLevel)));
+    Configs.compressionMinSize = Math.max(0, config.getInt("compression-min-size", Configs.compressionMinSize));
+    Configs.hashPlainPasswords = config.getBoolean("hash-plain-passwords", Configs.hashPlainPasswords);
+    Configs.authCacheMaxEntries = Math.max(0, config.getInt("auth-cache-max-entries", Configs.authCacheMaxEntries));
+    Configs.authCacheTtlSeconds = Math.max(0, config.getInt("auth-cache-ttl-seconds", Configs.authCacheTtlSeconds));
+    Configs.authFailuresBurst = Math.max(0, config.getInt("auth-failures-burst", Configs.authFailuresBurst));
+    Configs.authFailuresPerMinute = Math.max(1, config.getInt("auth-failures-per-minute", Configs.authFailuresPerMinute));
+
+    Configs.rateLimitEnabled = config.getBoolean("rate-limit-enabled", Configs.rateLimitEnabled);
+    Configs.rateLimitByIp = config.getBoolean("rate-limit-by-ip", Configs.rateLimitByIp);
+
+    if (config.contains("rate-limits")) {
+      final List<?> entries = config.getList("rate-limits", Collections.emptyList());
+
+      Configs.rateLimits.clear();
+
+      for (Object entry : entries) {
+        final Configuration section = Util.yamlRawToConfig(entry);
+
+        if (section == null || !section.isString("permission")) {
+          plugin.getLogger().warning("(Config) Skipped entry within \"rate-limits\" as it is missing the permission");
+          continue;
+        }
+
+        final RateLimitRule rule = new RateLimitRule(
+            section.getString("permission"),
+            section.getInt("burst", 0),
+            section.getDouble("per-second", 0));
+
+        if (rule.getBurst() <= 0 || rule.getPerSecond() <= 0) {
+          plugin.getLogger().warning("(Config) Skipped entry " + rule.getPermission() + " within \"rate-limits\" as burst and per-second must be greater than 0");
+          continue;
+        }
+
+        addRateLimit(rule);
+      }
+    }
+
+    boolean hashedPasswords = false;
 
     {
       final List<?> entries = config.getList("users", Collections.emptyList());
@@ -81,9 +288,16 @@ public class Configs {
           continue;
         }
 
+        char[] password = section.getString("password").toCharArray();
+
+        if (Configs.hashPlainPasswords && !PasswordHash.isHash(password)) {
+          password = PasswordHash.hash(password);
+          hashedPasswords = true;
+        }
+
         final User user = new User(
             section.getString("username"),
-            section.getString("password").toCharArray(),
+            password,
             section.getStringList("permissions").stream()
                 .map(v -> new Permission(v))
                 .collect(Collectors.toList()));
@@ -96,7 +310,7 @@ public class Configs {
     {
       final int currentVersion = config.getInt("file-version", -1);
 
-      if (currentVersion != VERSION)
+      if (currentVersion != VERSION || hashedPasswords)
         save(plugin);
     }
   }
@@ -119,6 +333,7 @@ public class Configs {
     config.addComment("The list of users that are allowed to have access");
     config.addComment("All available permissions (wildcard * is NOT supported):");
     Permission.fetchAll().forEach(p -> config.addComment(" - " + p.getValue()));
+    config.addComment("Passwords may either be in plain text or hashed (pbkdf2-sha256$<iterations>$<salt>$<hash>)");
 
     {
       final List<Configuration> entries = new ArrayList<>();
@@ -146,6 +361,246 @@ public class Configs {
     config.addComment("Use * to allow all origins, although it is recommended to type in manually the permitted domains");
     config.set("allowed-cors-origins", Configs.allowedCorsOrigins);
 
+    config.addEmptyLine();
+
+    config.addComment("The threads that handle the incoming requests");
+    config.addComment("virtual-threads: Whether to use virtual threads instead. Requires Java 21 or newer, otherwise the thread pool is used");
+    config.addComment("thread-pool-min / thread-pool-max: How many threads the pool keeps alive at least and may grow up to");
+    config.set("virtual-threads", Configs.virtualThreads);
+    config.set("thread-pool-min", Configs.threadPoolMin);
+    config.set("thread-pool-max", Configs.threadPoolMax);
+
+    config.addEmptyLine();
+
+    config.addComment("The threads that continue with the results of the storage (e.g. building the response) once it handed them to the main thread");
+    config.addComment("They are only used by this addon, so that it doesn't occupy the shared threads of the JVM");
+    config.set("callback-threads", Configs.callbackThreads);
+
+    config.addEmptyLine();
+
+    config.addComment("Tuning of the connections");
+    config.addComment("acceptors / selectors: How many threads accept new connections and handle their IO. Use -1 to let it pick it depending on the CPU cores");
+    config.addComment("idle-timeout-millis: After how long kept-alive connections without any traffic are being closed");
+    config.addComment("request-header-size: The max size (in bytes) of the headers of a request");
+    config.addComment("http2: Whether to also accept HTTP/2 without TLS (h2c). Useful behind a reverse proxy that supports it");
+    config.set("acceptors", Configs.acceptors);
+    config.set("selectors", Configs.selectors);
+    config.set("idle-timeout-millis", Configs.idleTimeoutMillis);
+    config.set("request-header-size", Configs.requestHeaderSize);
+    config.set("http2", Configs.http2);
+
+    config.addEmptyLine();
+
+    config.addComment("How long (in milliseconds) a request may wait for the player data storage (e.g. MySQL) to respond");
+    config.addComment("The request gets answered with 504 (Gateway Timeout) if the storage doesn't respond in time");
+    {
+      final Configuration section = new MemoryConfiguration();
+
+      for (StorageEndpoint endpoint : StorageEndpoint.values())
+        section.set(endpoint.getId(), Configs.storageTimeouts.get(endpoint));
+
+      config.set("storage-timeouts", section);
+    }
+
+    config.addEmptyLine();
+
+    config.addComment("The amount of seconds clients are being told to wait (using the Retry-After header) after a storage timeout or when too many requests are queued");
+    config.set("storage-timeout-retry-after", Configs.storageTimeoutRetryAfter);
+
+    config.addEmptyLine();
+
+    config.addComment("Limits how many calls of the same kind may be pending at the player data storage at the same time");
+    config.addComment("This way a slow storage doesn't affect other requests, such as /arenas or /servers");
+    config.addComment("A call keeps its slot until the storage answered, even if its request timed out in the meantime");
+    config.addComment("max-concurrent: How many may be pending at once. Set it to 0 to disable the limit");
+    config.addComment("max-queued: How many may wait for a free slot. Any further ones are being answered with 503 (Service Unavailable)");
+    {
+      final Configuration section = new MemoryConfiguration();
+
+      for (StorageEndpoint endpoint : StorageEndpoint.values()) {
+        section.set(endpoint.getId() + ".max-concurrent", Configs.bulkheadMaxConcurrent.get(endpoint));
+        section.set(endpoint.getId() + ".max-queued", Configs.bulkheadMaxQueued.get(endpoint));
+      }
+
+      config.set("bulkheads", section);
+    }
+
+    config.addEmptyLine();
+
+    config.addComment("The max amount of stat sets that are being fetched at the same time when a leaderboard request contains multiple of them");
+    config.addComment("Higher values reduce the response time, but put more load onto the storage at once");
+    config.set("leaderboard-max-parallel-fetches", Configs.leaderboardMaxParallelFetches);
+
+    config.addEmptyLine();
+
+    config.addComment("The max range (maxPos - minPos + 1) a leaderboard request may span if it isn't being streamed");
+    config.addComment("All of its entries are being kept in memory before they're written. Larger walks have to use /players/stats-leaderboard/pages");
+    config.set("leaderboard-max-ranks", Configs.leaderboardMaxRanks);
+
+    config.addEmptyLine();
+
+    config.addComment("Fetched leaderboard pages (a stat set with a min and max position) are being kept in memory for a short time");
+    config.addComment("max-pages: How many pages may be cached at once. The least recently used ones are being dropped first. Set it to 0 to disable the cache");
+    config.addComment("ttl-seconds: For how long a page may be served from the cache");
+    config.addComment("invalidate-on-stat-change: Whether to drop all pages whenever the stats of any player change. Note that this happens very often during matches");
+    config.set("leaderboard-cache-max-pages", Configs.leaderboardCacheMaxPages);
+    config.set("leaderboard-cache-ttl-seconds", Configs.leaderboardCacheTtlSeconds);
+    config.set("leaderboard-cache-invalidate-on-stat-change", Configs.leaderboardCacheInvalidateOnStatChange);
+
+    config.addEmptyLine();
+
+    config.addComment("Leaderboard requests for a single stat set with a range (maxPos - minPos + 1) of at least this many ranks are being streamed");
+    config.addComment("They're fetched from the storage in chunks of this many ranks, and each chunk is written before the next one is fetched");
+    config.addComment("Such ranges don't make use of the leaderboard cache. Set it to 0 to never stream them");
+    config.addComment("Requests for multiple stat sets with such a range are being rejected, as they can't be streamed");
+    config.set("leaderboard-stream-min-ranks", Configs.leaderboardStreamMinRanks);
+
+    config.addEmptyLine();
+
+    config.addComment("Paged routes (e.g. /players/online/pages) return their entries in chunks, together with a cursor to the next chunk");
+    config.addComment("default-page-size: The amount of entries per page if the client didn't pass a limit");
+    config.addComment("max-page-size: The max limit a client may pass");
+    config.set("pagination-default-page-size", Configs.paginationDefaultPageSize);
+    config.set("pagination-max-page-size", Configs.paginationMaxPageSize);
+
+    config.addEmptyLine();
+
+    config.addComment("Walking through the leaderboard with cursors happens on a snapshot, so that a fetched page never changes while it's being walked");
+    config.addComment("max-count: How many snapshots may exist at once. The least recently used ones are being dropped first");
+    config.addComment("ttl-seconds: For how long cursors of a snapshot may be used. Clients have to start over afterwards");
+    config.addComment("max-pages: How many pages each snapshot keeps. Pages that got dropped are being fetched again once they're requested");
+    config.set("leaderboard-snapshot-max-count", Configs.leaderboardSnapshotMaxCount);
+    config.set("leaderboard-snapshot-ttl-seconds", Configs.leaderboardSnapshotTtlSeconds);
+    config.set("leaderboard-snapshot-max-pages", Configs.leaderboardSnapshotMaxPages);
+
+    config.addEmptyLine();
+
+    config.addComment("The stats, properties and achievements of players are being kept in memory for a short time");
+    config.addComment("Changes made through the REST API and stat changes on this server are being applied to the cache right away");
+    config.addComment("max-entries: How many entries (per type) may be cached at once. Set it to 0 to disable the cache");
+    config.addComment("ttl-seconds: For how long an entry may be served from the cache");
+    config.set("player-cache-max-entries", Configs.playerCacheMaxEntries);
+    config.set("player-cache-ttl-seconds", Configs.playerCacheTtlSeconds);
+
+    config.addEmptyLine();
+
+    config.addComment("Fetching the stats of multiple players at once (POST /players/stats)");
+    config.addComment("max-players: The max amount of players a single request may contain. Can't be higher than 1000");
+    config.addComment("max-parallel-fetches: How many of them may be loaded from the storage at the same time");
+    config.set("stats-batch-max-players", Configs.statsBatchMaxPlayers);
+    config.set("stats-batch-max-parallel-fetches", Configs.statsBatchMaxParallelFetches);
+
+    config.addEmptyLine();
+
+    config.addComment("Looking up the UUIDs of multiple players by their names at once (/players/uuid)");
+    config.addComment("max-names: The max amount of names a single request may contain. Can't be higher than 1000");
+    config.addComment("max-parallel-fetches: How many of them may be looked up in the storage at the same time. Online players don't need one");
+    config.set("uuid-lookup-max-names", Configs.uuidLookupMaxNames);
+    config.set("uuid-lookup-max-parallel-fetches", Configs.uuidLookupMaxParallelFetches);
+
+    config.addEmptyLine();
+
+    config.addComment("Results of name to UUID look-ups (including those for which no player was found) are being kept in memory");
+    config.addComment("max-entries: How many names may be cached at once. Set it to 0 to disable the cache");
+    config.addComment("ttl-seconds: For how long a result may be served from the cache");
+    config.set("uuid-cache-max-entries", Configs.uuidCacheMaxEntries);
+    config.set("uuid-cache-ttl-seconds", Configs.uuidCacheTtlSeconds);
+
+    config.addEmptyLine();
+
+    config.addComment("The responses of /arenas, /servers and /players/online are being pre-built and shared by all requests");
+    config.addComment("enabled: Set it to false to build them anew for every request instead");
+    config.addComment("refresh-ticks: How often (in ticks) it is being checked whether anything changed and it has to be rebuilt");
+    config.addComment("max-age-seconds: It's being rebuilt after this time, even when no change has been noticed");
+    config.set("snapshot-enabled", Configs.snapshotEnabled);
+    config.set("snapshot-refresh-ticks", Configs.snapshotRefreshTicks);
+    config.set("snapshot-max-age-seconds", Configs.snapshotMaxAgeSeconds);
+
+    config.addEmptyLine();
+
+    config.addComment("Whether GET responses shall include an ETag header");
+    config.addComment("Clients that send it back using If-None-Match receive an empty 304 (Not Modified) response if nothing has changed");
+    config.set("etags-enabled", Configs.etagsEnabled);
+
+    config.addEmptyLine();
+
+    config.addComment("Whether to keep track of request counts, latencies, storage wait times and cache hits");
+    config.addComment("They're available in the Prometheus format at /metrics");
+    config.set("metrics-enabled", Configs.metricsEnabled);
+
+    config.addEmptyLine();
+
+    config.addComment("Changes of arenas, players and servers are being pushed to clients that are connected to /events (Server-Sent Events)");
+    config.addComment("max-subscribers: How many clients may be connected at once");
+    config.addComment("buffer-size: How many events may be pending for a slow client. The oldest ones are being dropped after that");
+    config.addComment("threads: How many threads deliver the events to the clients");
+    config.addComment("heartbeat-seconds: How often an empty message is being sent to keep the connection alive. Should be lower than idle-timeout-millis");
+    config.addComment("write-timeout-millis: Clients that don't take in a message within this time are being disconnected, so that they don't block the threads");
+    config.set("event-stream-enabled", Configs.eventStreamEnabled);
+    config.set("event-stream-max-subscribers", Configs.eventStreamMaxSubscribers);
+    config.set("event-stream-buffer-size", Configs.eventStreamBufferSize);
+    config.set("event-stream-threads", Configs.eventStreamThreads);
+    config.set("event-stream-heartbeat-seconds", Configs.eventStreamHeartbeatSeconds);
+    config.set("event-stream-write-timeout-millis", Configs.eventStreamWriteTimeoutMillis);
+
+    config.addEmptyLine();
+
+    config.addComment("Compression of responses for clients that support it (using the Accept-Encoding header)");
+    config.addComment("compression: Either none, gzip or brotli. brotli requires brotli4j to be present on the classpath and falls back to gzip otherwise");
+    config.addComment("gzip-level / brotli-level: Higher values result in smaller responses, but cost more CPU time (gzip: 1-9, brotli: 0-11)");
+    config.addComment("min-size: Responses smaller than this (in bytes) aren't worth it and are being sent uncompressed");
+    config.set("compression", Configs.compression.getId());
+    config.set("compression-gzip-level", Configs.compressionGzipLevel);
+    config.set("compression-brotli-level", Configs.compressionBrotliLevel);
+    config.set("compression-min-size", Configs.compressionMinSize);
+
+    config.addEmptyLine();
+
+    config.addComment("Whether plain text passwords within \"users\" shall automatically be replaced with their hash");
+    config.addComment("Note that you won't be able to look them up afterwards anymore");
+    config.set("hash-plain-passwords", Configs.hashPlainPasswords);
+
+    config.addEmptyLine();
+
+    config.addComment("Successfully verified credentials are being kept in memory, as verifying hashed passwords is slow on purpose");
+    config.addComment("max-entries: How many of them may be cached at once. Set it to 0 to disable the cache");
+    config.addComment("ttl-seconds: For how long they may be served from the cache");
+    config.set("auth-cache-max-entries", Configs.authCacheMaxEntries);
+    config.set("auth-cache-ttl-seconds", Configs.authCacheTtlSeconds);
+
+    config.addEmptyLine();
+
+    config.addComment("Limits how many wrong credentials an IP may send, as each of them costs a full verification of a hashed password");
+    config.addComment("IPs that exceed it receive 429 (Too Many Requests) without their credentials being verified");
+    config.addComment("burst: How many failed attempts may happen in a row. Set it to 0 to disable the limit");
+    config.addComment("per-minute: How many further attempts are being regained per minute");
+    config.set("auth-failures-burst", Configs.authFailuresBurst);
+    config.set("auth-failures-per-minute", Configs.authFailuresPerMinute);
+
+    config.addEmptyLine();
+
+    config.addComment("Limits how often a user or token may access routes that require a specific permission");
+    config.addComment("Clients that exceed it receive 429 (Too Many Requests) together with a Retry-After header");
+    config.addComment("by-ip: Whether to additionally track it separately for every IP the user is connecting from");
+    config.addComment("rate-limits: burst is the amount of requests that may be sent at once, per-second how quickly they're being regained");
+    config.set("rate-limit-enabled", Configs.rateLimitEnabled);
+    config.set("rate-limit-by-ip", Configs.rateLimitByIp);
+    {
+      final List<Configuration> entries = new ArrayList<>();
+
+      for (RateLimitRule rule : Configs.rateLimits.values()) {
+        final Configuration section = new MemoryConfiguration();
+
+        section.set("permission", rule.getPermission());
+        section.set("burst", rule.getBurst());
+        section.set("per-second", rule.getPerSecond());
+
+        entries.add(section);
+      }
+
+      config.set("rate-limits", entries);
+    }
+
     // save
     getFile(plugin).getParentFile().mkdirs();
 
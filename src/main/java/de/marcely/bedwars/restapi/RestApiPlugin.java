@@ -2,26 +2,63 @@ package de.marcely.bedwars.restapi;
 
 import de.marcely.bedwars.restapi.auth.AuthController;
 import de.marcely.bedwars.restapi.auth.Permission;
+import de.marcely.bedwars.restapi.cache.LeaderboardCache;
+import de.marcely.bedwars.restapi.cache.PlayerDataCache;
 import de.marcely.bedwars.restapi.controller.ArenasController;
+import de.marcely.bedwars.restapi.controller.EventsController;
 import de.marcely.bedwars.restapi.controller.HelloController;
+import de.marcely.bedwars.restapi.controller.MetricsController;
 import de.marcely.bedwars.restapi.controller.PlayersAchievementsController;
 import de.marcely.bedwars.restapi.controller.PlayersOnlineController;
 import de.marcely.bedwars.restapi.controller.PlayersPropertiesController;
 import de.marcely.bedwars.restapi.controller.PlayersStatsController;
 import de.marcely.bedwars.restapi.controller.PlayersUUIDController;
 import de.marcely.bedwars.restapi.controller.ServersController;
+import de.marcely.bedwars.restapi.controller.TokensController;
+import de.marcely.bedwars.restapi.metrics.Metrics;
+import de.marcely.bedwars.restapi.model.ErrorResponse;
+import de.marcely.bedwars.restapi.ratelimit.RateLimiter;
+import de.marcely.bedwars.restapi.snapshot.RemoteIndex;
+import de.marcely.bedwars.restapi.snapshot.RemoteSnapshotManager;
+import de.marcely.bedwars.restapi.stream.EventStream;
+import de.marcely.bedwars.restapi.util.BulkheadFullException;
+import de.marcely.bedwars.restapi.util.CompressionType;
+import de.marcely.bedwars.restapi.util.StorageEndpoint;
 import io.javalin.Javalin;
+import io.javalin.compression.Brotli;
+import io.javalin.compression.CompressionStrategy;
+import io.javalin.compression.Gzip;
+import io.javalin.http.Context;
+import io.javalin.http.Header;
+import io.javalin.http.HttpStatus;
 import io.javalin.openapi.plugin.OpenApiPlugin;
 import io.javalin.openapi.plugin.redoc.ReDocPlugin;
+import io.javalin.util.ConcurrencyUtil;
 import io.javalin.util.JavalinLogger;
+import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import org.bukkit.Bukkit;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
 
 import static io.javalin.apibuilder.ApiBuilder.*;
 
@@ -31,11 +68,32 @@ public class RestApiPlugin extends JavaPlugin {
   private static final int MBEDWARS_API_NUM = 205;
   private static final String MBEDWARS_API_NAME = "5.5.5";
 
+  private static RestApiPlugin instance;
+
   private final Set<Permission> registeredPermissions = new HashSet<>();
+  private final AtomicLong lastStorageTimeoutWarning = new AtomicLong();
+  private final RateLimiter rateLimiter = new RateLimiter();
+  private final Metrics metrics = new Metrics();
 
   private RestApiAddon addon;
   private Javalin javalinServer;
   private AuthController authController;
+  private ExecutorService callbackExecutor;
+  private LeaderboardCache leaderboardCache;
+  private PlayerDataCache playerDataCache;
+  private RemoteIndex remoteIndex;
+  private RemoteSnapshotManager remoteSnapshots;
+  private EventStream eventStream;
+
+  public RestApiPlugin() {
+    instance = this;
+  }
+
+  // allows it to run without a server, e.g. for the load test harness
+  protected RestApiPlugin(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+    super(loader, description, dataFolder, file);
+    instance = this;
+  }
 
   @Override
   public void onLoad() {
@@ -50,18 +108,60 @@ public class RestApiPlugin extends JavaPlugin {
       return;
 
     (this.addon = new RestApiAddon(this)).register();
-    (this.authController = new AuthController()).addDefaultUser();
+    enable();
+  }
+
+  // everything that doesn't require MBedwars itself
+  protected void enable() {
+    (this.authController = new AuthController(this)).addDefaultUser();
 
     Configs.load(this);
+    this.authController.getTokens().load();
+
+    {
+      final AtomicInteger threadId = new AtomicInteger();
+
+      this.callbackExecutor = Executors.newFixedThreadPool(Configs.callbackThreads, r -> {
+        final Thread thread = new Thread(r, "RestAPI-Callback-" + threadId.incrementAndGet());
+
+        thread.setDaemon(true);
+
+        return thread;
+      });
+    }
+
+    this.leaderboardCache = new LeaderboardCache();
+    this.playerDataCache = new PlayerDataCache();
+    Bukkit.getPluginManager().registerEvents(this.leaderboardCache, this);
+    Bukkit.getPluginManager().registerEvents(this.playerDataCache, this);
+
+    (this.remoteIndex = new RemoteIndex()).start(this);
+
+    (this.remoteSnapshots = new RemoteSnapshotManager()).start(this);
+    (this.eventStream = new EventStream()).start(this);
+
     runServer();
   }
 
   @Override
   public void onDisable() {
-    if (this.javalinServer == null)
-      return;
+    if (this.remoteSnapshots != null)
+      this.remoteSnapshots.stop();
+    if (this.eventStream != null)
+      this.eventStream.stop();
+
+    if (this.javalinServer != null)
+      this.javalinServer.stop();
+    if (this.callbackExecutor != null)
+      this.callbackExecutor.shutdown();
+  }
+
+  public File getAddonDataFolder() {
+    return this.addon.getDataFolder();
+  }
 
-    this.javalinServer.stop();
+  public static RestApiPlugin getInstance() {
+    return instance;
   }
 
   private boolean validateMBedwars() {
@@ -83,17 +183,27 @@ public class RestApiPlugin extends JavaPlugin {
 
   private void runServer() {
     final HelloController helloController = new HelloController(this);
+    final boolean virtualThreads = useVirtualThreads();
 
     JavalinLogger.startupInfo = false;
 
     this.javalinServer = Javalin.create(config -> {
       config.jetty.defaultHost = Configs.host;
       config.jetty.defaultPort = Configs.port;
+      config.jetty.modifyHttpConfiguration(httpConfig -> {
+        httpConfig.setRequestHeaderSize(Configs.requestHeaderSize);
+      });
+      config.jetty.addConnector(this::createConnector);
+      config.jetty.threadPool = ConcurrencyUtil.jettyThreadPool("RestAPI-Server", Configs.threadPoolMin, Configs.threadPoolMax, virtualThreads);
+      config.useVirtualThreads = virtualThreads;
+      config.http.generateEtags = Configs.etagsEnabled;
+      config.http.customCompression(createCompressionStrategy());
 
       config.registerPlugin(new OpenApiPlugin(pluginConfig -> {
         pluginConfig.withDefinitionConfiguration((version, definition) -> {
           definition.withSecurity(securityConfig -> {
             securityConfig.withBasicAuth();
+            securityConfig.withBearerAuth();
           });
           definition.withInfo(info -> {
             info.title("MBedwars REST API");
@@ -122,8 +232,13 @@ public class RestApiPlugin extends JavaPlugin {
         });
       });
 
+      config.requestLogger.http(this.metrics::handleCompleted);
       config.router.mount(router -> {
+        router.beforeMatched(this.metrics::handleBefore);
         router.beforeMatched(this.authController::handleAccess);
+        router.beforeMatched(this.rateLimiter::handle);
+        router.exception(TimeoutException.class, this::handleStorageTimeout);
+        router.exception(BulkheadFullException.class, this::handleBulkheadFull);
       });
 
       config.router.apiBuilder(() -> {
@@ -142,12 +257,17 @@ public class RestApiPlugin extends JavaPlugin {
         path("players", () -> {
           path("online", () -> {
             get(PlayersOnlineController::getAll, Permission.PLAYERS_READ_ONLINE);
+            get("pages", PlayersOnlineController::getPage, Permission.PLAYERS_READ_ONLINE); // before {uuid}, which would match it as well
             get("{uuid}", PlayersOnlineController::getOne, Permission.PLAYERS_READ_ONLINE);
           });
           path("uuid", () -> {
             get(PlayersUUIDController::getManyByName, Permission.PLAYER_UUID_BY_NAME);
+            post(PlayersUUIDController::getManyByName, Permission.PLAYER_UUID_BY_NAME);
             get("{name}", PlayersUUIDController::getOneByName, Permission.PLAYER_UUID_BY_NAME);
           });
+          path("stats", () -> {
+            post(PlayersStatsController::getMany, Permission.PLAYERS_STATS_READ);
+          });
           path("stats/{uuid}", () -> {
             get(PlayersStatsController::getOne, Permission.PLAYERS_STATS_READ);
             get("leaderboard", PlayersStatsController::getOneLeaderboard, Permission.PLAYERS_STATS_READ_RANK);
@@ -158,6 +278,7 @@ public class RestApiPlugin extends JavaPlugin {
           });
           path("stats-leaderboard", () -> {
             get(PlayersStatsController::getLeaderboard, Permission.PLAYERS_STATS_READ_LEADERBOARD);
+            get("pages", PlayersStatsController::getLeaderboardPage, Permission.PLAYERS_STATS_READ_LEADERBOARD);
           });
           path("achievements/{uuid}", () -> {
             get(PlayersAchievementsController::getOne, Permission.PLAYERS_ACHIEVEMENTS_READ);
@@ -172,9 +293,98 @@ public class RestApiPlugin extends JavaPlugin {
             patch(PlayersPropertiesController::update, Permission.PLAYERS_PROPERTIES_WRITE);
           });
         });
+
+        get("events", EventsController::stream, Permission.EVENTS_STREAM);
+        get("metrics", MetricsController::getAll, Permission.METRICS_READ);
+
+        path("tokens", () -> {
+          get(TokensController::getAll, Permission.TOKENS_MANAGE);
+          post(TokensController::create, Permission.TOKENS_MANAGE);
+          delete("{id}", TokensController::delete, Permission.TOKENS_MANAGE);
+        });
       });
     }).start();
 
     getLogger().info("Started server on http://" + Configs.host + ":" + Configs.port);
   }
+
+  private Connector createConnector(Server server, HttpConfiguration httpConfig) {
+    final List<ConnectionFactory> factories = new ArrayList<>(2);
+
+    factories.add(new HttpConnectionFactory(httpConfig));
+
+    if (Configs.http2)
+      factories.add(new HTTP2CServerConnectionFactory(httpConfig));
+
+    final ServerConnector connector = new ServerConnector(
+        server,
+        Configs.acceptors,
+        Configs.selectors,
+        factories.toArray(new ConnectionFactory[0]));
+
+    connector.setHost(Configs.host);
+    connector.setPort(Configs.port);
+    connector.setIdleTimeout(Configs.idleTimeoutMillis);
+
+    return connector;
+  }
+
+  private boolean useVirtualThreads() {
+    if (!Configs.virtualThreads)
+      return false;
+
+    if (!ConcurrencyUtil.isLoomAvailable()) {
+      getLogger().warning("Virtual threads require Java 21 or newer. Falling back to the thread pool");
+      return false;
+    }
+
+    return true;
+  }
+
+  private CompressionStrategy createCompressionStrategy() {
+    if (Configs.compression == CompressionType.NONE)
+      return CompressionStrategy.NONE;
+
+    Brotli brotli = null;
+
+    if (Configs.compression == CompressionType.BROTLI) {
+      try {
+        // natives aren't shipped with the addon, as they're platform specific
+        Class.forName("com.aayushatharva.brotli4j.Brotli4jLoader");
+        brotli = new Brotli(Configs.compressionBrotliLevel);
+      } catch (ClassNotFoundException e) {
+        getLogger().warning("brotli4j is missing in the classpath. Falling back to gzip compression");
+      }
+    }
+
+    final CompressionStrategy strategy = new CompressionStrategy(brotli, new Gzip(Configs.compressionGzipLevel));
+
+    strategy.setDefaultMinSizeForCompression(Configs.compressionMinSize);
+
+    return strategy;
+  }
+
+  private void handleStorageTimeout(TimeoutException e, Context ctx) {
+    final long now = System.currentTimeMillis();
+    final long lastWarning = this.lastStorageTimeoutWarning.get();
+
+    // don't flood the console while the storage is stalling
+    if (now - lastWarning >= 60_000 && this.lastStorageTimeoutWarning.compareAndSet(lastWarning, now)) {
+      final long total = Arrays.stream(StorageEndpoint.values())
+          .mapToLong(endpoint -> endpoint.getTimeouts().sum())
+          .sum();
+
+      getLogger().warning("The player data storage didn't respond in time to a request (" + total + " timed out lookups in total)");
+    }
+
+    ctx.header(Header.RETRY_AFTER, String.valueOf(Configs.storageTimeoutRetryAfter));
+    ctx.status(HttpStatus.GATEWAY_TIMEOUT);
+    ctx.json(new ErrorResponse("The player data storage didn't respond in time"));
+  }
+
+  private void handleBulkheadFull(BulkheadFullException e, Context ctx) {
+    ctx.header(Header.RETRY_AFTER, String.valueOf(Configs.storageTimeoutRetryAfter));
+    ctx.status(HttpStatus.SERVICE_UNAVAILABLE);
+    ctx.json(new ErrorResponse("Too many " + e.getEndpoint().getId() + " requests are currently being processed"));
+  }
 }
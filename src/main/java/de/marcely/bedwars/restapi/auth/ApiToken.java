@@ -0,0 +1,39 @@
+package de.marcely.bedwars.restapi.auth;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.Data;
+import org.jetbrains.annotations.Nullable;
+
+@Data
+public class ApiToken implements Principal {
+
+  private final String id;
+  private final String name;
+  private final String secretHash;
+  private final Set<Permission> permissions;
+  private final long permissionMask;
+  private final long createdAt;
+  @Nullable
+  private final Long expiresAt;
+
+  public ApiToken(String id, String name, String secretHash, Collection<Permission> permissions, long createdAt, @Nullable Long expiresAt) {
+    this.id = id;
+    this.name = name;
+    this.secretHash = secretHash;
+    this.permissions = new LinkedHashSet<>(permissions);
+    this.permissionMask = Permission.toMask(this.permissions);
+    this.createdAt = createdAt;
+    this.expiresAt = expiresAt;
+  }
+
+  @Override
+  public String getIdentifier() {
+    return "token:" + this.id;
+  }
+
+  public boolean isExpired() {
+    return this.expiresAt != null && System.currentTimeMillis() >= this.expiresAt;
+  }
+}
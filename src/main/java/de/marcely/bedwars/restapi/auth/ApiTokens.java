@@ -0,0 +1,223 @@
+package de.marcely.bedwars.restapi.auth;
+
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import de.marcely.bedwars.restapi.util.Util;
+import de.marcely.bedwars.tools.YamlConfigurationDescriptor;
+import java.io.File;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.Nullable;
+
+public class ApiTokens {
+
+  private static final String SECRET_PREFIX = "mbw_";
+
+  private final RestApiPlugin plugin;
+  private final SecureRandom random = new SecureRandom();
+  private final Map<String, ApiToken> byId = new ConcurrentHashMap<>();
+  private final Map<String, ApiToken> bySecretHash = new ConcurrentHashMap<>();
+
+  public ApiTokens(RestApiPlugin plugin) {
+    this.plugin = plugin;
+  }
+
+  public Collection<ApiToken> getAll() {
+    return Collections.unmodifiableCollection(this.byId.values());
+  }
+
+  @Nullable
+  public ApiToken getById(String id) {
+    return this.byId.get(id);
+  }
+
+  @Nullable
+  public ApiToken getBySecret(String secret) {
+    final ApiToken token = this.bySecretHash.get(hashSecret(secret));
+
+    if (token == null || token.isExpired())
+      return null;
+
+    return token;
+  }
+
+  public Issued issue(String name, Collection<Permission> permissions, @Nullable Long expiresAt) {
+    final String secret = SECRET_PREFIX + randomString(32);
+    final ApiToken token = new ApiToken(
+        randomString(9),
+        name,
+        hashSecret(secret),
+        permissions,
+        System.currentTimeMillis(),
+        expiresAt);
+
+    add(token);
+    save();
+
+    return new Issued(token, secret);
+  }
+
+  public boolean revoke(String id) {
+    final ApiToken token = this.byId.remove(id);
+
+    if (token == null)
+      return false;
+
+    this.bySecretHash.remove(token.getSecretHash());
+    save();
+
+    return true;
+  }
+
+  private void add(ApiToken token) {
+    this.byId.put(token.getId(), token);
+    this.bySecretHash.put(token.getSecretHash(), token);
+  }
+
+  private String randomString(int bytes) {
+    final byte[] raw = new byte[bytes];
+
+    this.random.nextBytes(raw);
+
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+  }
+
+  private static String hashSecret(String secret) {
+    // secrets are random and long, so a fast hash is sufficient
+    try {
+      final byte[] hash = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e); // shouldn't occur, every JVM must support it
+    }
+  }
+
+  private File getFile() {
+    return new File(this.plugin.getAddonDataFolder(), "tokens.yml");
+  }
+
+  public void load() {
+    synchronized (this) {
+      try {
+        loadUnchecked();
+      } catch (Exception e) {
+        e.printStackTrace();
+      }
+    }
+  }
+
+  private void loadUnchecked() throws Exception {
+    final File file = getFile();
+
+    this.byId.clear();
+    this.bySecretHash.clear();
+
+    if (!file.exists())
+      return;
+
+    final FileConfiguration config = new YamlConfiguration();
+
+    try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+      config.load(reader);
+    }
+
+    for (Object entry : config.getList("tokens", Collections.emptyList())) {
+      final Configuration section = Util.yamlRawToConfig(entry);
+
+      if (section == null || !section.isString("id") || !section.isString("secret-hash") || !section.isList("permissions")) {
+        this.plugin.getLogger().warning("(Tokens) Skipped an entry as it is missing required fields");
+        continue;
+      }
+
+      final ApiToken token = new ApiToken(
+          section.getString("id"),
+          section.getString("name", ""),
+          section.getString("secret-hash"),
+          section.getStringList("permissions").stream()
+              .map(Permission::new)
+              .collect(Collectors.toList()),
+          section.getLong("created-at", 0L),
+          section.contains("expires-at") ? section.getLong("expires-at", 0L) : null);
+
+      if (!token.isExpired())
+        add(token);
+    }
+  }
+
+  public void save() {
+    synchronized (this) {
+      try {
+        saveUnchecked();
+      } catch (Exception e) {
+        e.printStackTrace();
+      }
+    }
+  }
+
+  private void saveUnchecked() throws Exception {
+    final YamlConfigurationDescriptor config = new YamlConfigurationDescriptor();
+
+    config.addComment("API tokens that have been issued using the /tokens endpoints");
+    config.addComment("Only hashes of their secrets are being stored. Remove an entry to revoke it");
+
+    {
+      final List<Configuration> entries = new ArrayList<>();
+
+      for (ApiToken token : this.byId.values()) {
+        if (token.isExpired())
+          continue;
+
+        final Configuration section = new MemoryConfiguration();
+
+        section.set("id", token.getId());
+        section.set("name", token.getName());
+        section.set("secret-hash", token.getSecretHash());
+        section.set("permissions", token.getPermissions().stream()
+            .map(Permission::getValue)
+            .toArray());
+        section.set("created-at", token.getCreatedAt());
+
+        if (token.getExpiresAt() != null)
+          section.set("expires-at", token.getExpiresAt());
+
+        entries.add(section);
+      }
+
+      config.set("tokens", entries);
+    }
+
+    getFile().getParentFile().mkdirs();
+
+    try (Writer writer = Files.newBufferedWriter(getFile().toPath(), StandardCharsets.UTF_8)) {
+      writer.write(config.saveToString());
+    }
+  }
+
+
+  @Getter
+  @AllArgsConstructor
+  public static class Issued {
+
+    private final ApiToken token;
+    private final String secret;
+  }
+}
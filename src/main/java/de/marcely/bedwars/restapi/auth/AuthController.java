@@ -1,22 +1,53 @@
 package de.marcely.bedwars.restapi.auth;
 
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import de.marcely.bedwars.restapi.cache.ExpiringCache;
+import de.marcely.bedwars.restapi.metrics.LatencyHistogram;
+import de.marcely.bedwars.restapi.ratelimit.TokenBucket;
 import de.marcely.bedwars.restapi.util.Util;
 import io.javalin.http.Context;
 import io.javalin.http.Header;
+import io.javalin.http.TooManyRequestsResponse;
 import io.javalin.http.UnauthorizedResponse;
 import io.javalin.security.BasicAuthCredentials;
 import io.javalin.security.RouteRole;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
 import org.jetbrains.annotations.Nullable;
 
 public class AuthController {
 
+  private static final char[] DUMMY_PASSWORD = new char[30];
+  private static final int FAILURES_CLEANUP_THRESHOLD = 10_000;
+  private static final String BEARER_PREFIX = "Bearer ";
+  private static final String PRINCIPAL_ATTRIBUTE = "restapi.principal";
+
+  @Getter
+  private final ApiTokens tokens;
+  @Getter
+  private final LatencyHistogram durations = new LatencyHistogram();
   private final Map<String, User> users = new HashMap<>();
+  // ip -> failed attempts
+  private final Map<String, TokenBucket> failures = new ConcurrentHashMap<>();
+  private volatile boolean hasHashedPasswords = false;
+  // digest of the Authorization header -> user. Only successful verifications are being kept
+  @Getter
+  private volatile ExpiringCache<String, User> verifiedHeaders = createVerifiedHeadersCache();
+
+  public AuthController(RestApiPlugin plugin) {
+    this.tokens = new ApiTokens(plugin);
+  }
 
   public Collection<User> getAll() {
     return this.users.values();
@@ -24,6 +55,9 @@ public class AuthController {
 
   public void clear() {
     this.users.clear();
+    this.failures.clear();
+    this.hasHashedPasswords = false;
+    this.verifiedHeaders = createVerifiedHeadersCache(); // config might have changed
   }
 
   @Nullable
@@ -33,6 +67,8 @@ public class AuthController {
 
   public void add(User user) {
     this.users.put(user.getUsername().toLowerCase(), user);
+    this.hasHashedPasswords |= PasswordHash.isHash(user.getPassword());
+    this.verifiedHeaders.invalidateAll();
   }
 
   public void addDefaultUser() {
@@ -43,29 +79,128 @@ public class AuthController {
     ));
   }
 
-  public Set<Permission> getPermissions(Context ctx) {
+  @Nullable
+  public Principal getPrincipal(Context ctx) {
+    final String header = ctx.header(Header.AUTHORIZATION);
+
+    if (header == null)
+      return null;
+
+    if (header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length()))
+      return this.tokens.getBySecret(header.substring(BEARER_PREFIX.length()).trim());
+
+    return getUser(ctx, header);
+  }
+
+  @Nullable
+  private User getUser(Context ctx, String header) {
+    final String digest = digest(header);
+    final User cached = this.verifiedHeaders.getIfPresent(digest);
+
+    if (cached != null)
+      return cached;
+
     final BasicAuthCredentials credentials = ctx.basicAuthCredentials();
 
     if (credentials == null)
-      return Collections.emptySet();
+      return null;
+
+    final TokenBucket failures = Configs.authFailuresBurst > 0 ? this.failures.get(ctx.ip()) : null;
+
+    // don't spend the time on verifying them anymore
+    if (failures != null) {
+      final long wait = failures.peek();
+
+      if (wait > 0) {
+        ctx.header(Header.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999L))));
+        throw new TooManyRequestsResponse("Too many failed authentication attempts");
+      }
+    }
 
     final User user = getByName(credentials.getUsername());
+    final char[] stored = user != null ? user.getPassword() : DUMMY_PASSWORD;
+    final char[] given = credentials.getPassword().toCharArray();
+
+    // every attempt has to take as long as verifying a hashed password, if there are any. otherwise
+    // the existence of a user could be derived from the response time (unknown ones are compared too)
+    if (this.hasHashedPasswords && !PasswordHash.isHash(stored))
+      PasswordHash.verify(PasswordHash.getDummyHash(), given);
+
+    final boolean matches = PasswordHash.verify(stored, given);
+
+    if (user == null || !matches) {
+      trackFailure(ctx.ip());
+      return null;
+    }
+
+    // hashed passwords are expensive to verify, so remember it for a while
+    this.verifiedHeaders.put(digest, user);
 
-    if (user == null || !Arrays.equals(user.getPassword(), credentials.getPassword().toCharArray()))
+    return user;
+  }
+
+  private void trackFailure(String ip) {
+    if (Configs.authFailuresBurst <= 0)
+      return;
+
+    // full ones behave the same as new ones
+    if (this.failures.size() >= FAILURES_CLEANUP_THRESHOLD)
+      this.failures.values().removeIf(TokenBucket::isFull);
+
+    this.failures
+        .computeIfAbsent(ip, k -> new TokenBucket(Configs.authFailuresBurst, Configs.authFailuresPerMinute / 60D))
+        .tryAcquire();
+  }
+
+  public Set<Permission> getPermissions(Context ctx) {
+    final Principal principal = getPrincipal(ctx);
+
+    if (principal == null)
       return Collections.emptySet();
 
-    return user.getPermissions();
+    return principal.getPermissions();
   }
 
   public void handleAccess(Context ctx) {
     final Set<RouteRole> required = ctx.routeRoles();
-    final Set<Permission> having = getPermissions(ctx);
 
-    if (required.isEmpty() || having.stream().anyMatch(required::contains))
+    if (required.isEmpty())
+      return; // public
+
+    final long start = System.nanoTime();
+    final Principal principal = getPrincipal(ctx);
+
+    this.durations.observeSince(start);
+
+    if (principal != null && Permission.grantsAny(principal, required)) {
+      ctx.attribute(PRINCIPAL_ATTRIBUTE, principal);
       return; // got permission
+    }
 
     ctx.header(Header.WWW_AUTHENTICATE, "Basic");
+    ctx.res().addHeader(Header.WWW_AUTHENTICATE, "Bearer");
 
     throw new UnauthorizedResponse();
   }
+
+  // the one that has been granted access to the matched route
+  @Nullable
+  public static Principal getAuthenticated(Context ctx) {
+    return ctx.attribute(PRINCIPAL_ATTRIBUTE);
+  }
+
+  private static ExpiringCache<String, User> createVerifiedHeadersCache() {
+    return new ExpiringCache<>(Configs.authCacheMaxEntries, Configs.authCacheTtlSeconds * 1000L);
+  }
+
+  private static String digest(String header) {
+    // only keep the digest in memory, not the plain credentials
+    try {
+      final byte[] hash = MessageDigest.getInstance("SHA-256").digest(header.getBytes(StandardCharsets.UTF_8));
+
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e); // shouldn't occur, every JVM must support it
+    }
+  }
 }
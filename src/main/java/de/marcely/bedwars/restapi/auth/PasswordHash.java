@@ -0,0 +1,90 @@
+package de.marcely.bedwars.restapi.auth;
+
+import java.nio.CharBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+// format: pbkdf2-sha256$<iterations>$<salt>$<hash>, with salt and hash being base64 encoded
+public class PasswordHash {
+
+  private static final String PREFIX = "pbkdf2-sha256$";
+  private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+  private static final int ITERATIONS = 310_000;
+  private static final int SALT_LENGTH = 16;
+  private static final int HASH_LENGTH = 32;
+
+  // verifying against it takes as long as against any other hash of ours
+  public static char[] getDummyHash() {
+    return DummyHolder.HASH;
+  }
+
+  public static boolean isHash(char[] password) {
+    return CharBuffer.wrap(password).toString().startsWith(PREFIX);
+  }
+
+  public static char[] hash(char[] password) {
+    final byte[] salt = new byte[SALT_LENGTH];
+
+    new SecureRandom().nextBytes(salt);
+
+    final byte[] hash = pbkdf2(password, salt, ITERATIONS, HASH_LENGTH);
+
+    return (PREFIX + ITERATIONS
+        + "$" + Base64.getEncoder().encodeToString(salt)
+        + "$" + Base64.getEncoder().encodeToString(hash)).toCharArray();
+  }
+
+  public static boolean verify(char[] stored, char[] given) {
+    if (!isHash(stored))
+      return constantTimeEquals(stored, given);
+
+    final String[] parts = new String(stored, PREFIX.length(), stored.length - PREFIX.length()).split("\\$");
+
+    if (parts.length != 3)
+      return false;
+
+    try {
+      final int iterations = Integer.parseInt(parts[0]);
+      final byte[] salt = Base64.getDecoder().decode(parts[1]);
+      final byte[] hash = Base64.getDecoder().decode(parts[2]);
+
+      if (iterations <= 0 || hash.length == 0)
+        return false;
+
+      return MessageDigest.isEqual(hash, pbkdf2(given, salt, iterations, hash.length));
+    } catch (IllegalArgumentException e) {
+      return false; // malformed
+    }
+  }
+
+  private static byte[] pbkdf2(char[] password, byte[] salt, int iterations, int length) {
+    final PBEKeySpec spec = new PBEKeySpec(password, salt, iterations, length * 8);
+
+    try {
+      return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+    } catch (GeneralSecurityException e) {
+      throw new RuntimeException(e); // shouldn't occur, every JVM must support it
+    } finally {
+      spec.clearPassword();
+    }
+  }
+
+  private static boolean constantTimeEquals(char[] a, char[] b) {
+    int diff = a.length ^ b.length;
+
+    for (int i = 0; i < b.length; i++)
+      diff |= (i < a.length ? a[i] : 0) ^ b[i];
+
+    return diff == 0;
+  }
+
+
+  private static class DummyHolder {
+
+    private static final char[] HASH = hash(new char[30]);
+  }
+}
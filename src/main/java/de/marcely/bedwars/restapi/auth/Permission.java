@@ -4,6 +4,8 @@ import io.javalin.security.RouteRole;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -29,9 +31,61 @@ public class Permission implements RouteRole {
   public static final Permission PLAYERS_PROPERTIES_READ = new Permission("players.properties.read");
   public static final Permission PLAYERS_PROPERTIES_WRITE = new Permission("players.properties.write");
 
+  public static final Permission EVENTS_STREAM = new Permission("events.stream");
+
+  public static final Permission METRICS_READ = new Permission("metrics.read");
+
+  public static final Permission TOKENS_MANAGE = new Permission("tokens.manage");
+
+  // each built-in permission is represented by a bit, so that checks usually come down to a single AND.
+  // custom ones of other plugins don't have one (mask 0), they are being compared by their value instead
+  private static final Map<String, Long> MASKS = createMasks();
+
   private final String value;
 
 
+  public long getMask() {
+    return MASKS.getOrDefault(this.value, 0L);
+  }
+
+  public static long toMask(Collection<? extends RouteRole> roles) {
+    long mask = 0;
+
+    for (RouteRole role : roles) {
+      if (role instanceof Permission)
+        mask |= ((Permission) role).getMask();
+    }
+
+    return mask;
+  }
+
+  public static boolean grantsAny(Principal principal, Collection<? extends RouteRole> required) {
+    if ((principal.getPermissionMask() & toMask(required)) != 0)
+      return true;
+
+    for (RouteRole role : required) {
+      if (role instanceof Permission && ((Permission) role).getMask() == 0 && principal.getPermissions().contains(role))
+        return true;
+    }
+
+    return false;
+  }
+
+  private static Map<String, Long> createMasks() {
+    final Map<String, Long> masks = new HashMap<>();
+
+    for (Permission permission : fetchAll()) {
+      if (masks.containsKey(permission.value))
+        continue;
+      if (masks.size() >= Long.SIZE)
+        throw new IllegalStateException("Too many permissions to fit into a mask");
+
+      masks.put(permission.value, 1L << masks.size());
+    }
+
+    return masks;
+  }
+
   public static Collection<Permission> fetchAll() {
     try {
       final Field[] fields = Permission.class.getFields();
@@ -0,0 +1,13 @@
+package de.marcely.bedwars.restapi.auth;
+
+import java.util.Set;
+
+public interface Principal {
+
+  // unique among all principals, e.g. for keeping track of their rate limits
+  String getIdentifier();
+
+  Set<Permission> getPermissions();
+
+  long getPermissionMask();
+}
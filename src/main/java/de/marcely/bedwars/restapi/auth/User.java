@@ -6,15 +6,22 @@ import java.util.Set;
 import lombok.Data;
 
 @Data
-public class User {
+public class User implements Principal {
 
   private final String username;
   private final char[] password;
   private final Set<Permission> permissions;
+  private final long permissionMask;
 
   public User(String username, char[] password, Collection<Permission> permissions) {
     this.username = username;
     this.password = password;
     this.permissions = new LinkedHashSet<>(permissions);
+    this.permissionMask = Permission.toMask(this.permissions);
+  }
+
+  @Override
+  public String getIdentifier() {
+    return "user:" + this.username.toLowerCase();
   }
 }
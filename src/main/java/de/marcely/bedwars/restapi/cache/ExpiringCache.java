@@ -0,0 +1,154 @@
+package de.marcely.bedwars.restapi.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+public class ExpiringCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlMillis;
+  private final Map<K, CachedValue<V>> entries;
+
+  @Getter
+  private final LongAdder hits = new LongAdder();
+  @Getter
+  private final LongAdder misses = new LongAdder();
+
+  public ExpiringCache(int maxSize, long ttlMillis) {
+    this.maxSize = maxSize;
+    this.ttlMillis = ttlMillis;
+    this.entries = new LinkedHashMap<K, CachedValue<V>>(16, 0.75F, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+        return size() > ExpiringCache.this.maxSize;
+      }
+    };
+  }
+
+  public boolean isEnabled() {
+    return this.maxSize > 0 && this.ttlMillis > 0;
+  }
+
+  public CompletableFuture<V> get(K key, Function<K, CompletableFuture<V>> loader) {
+    if (!isEnabled())
+      return loader.apply(key);
+
+    final CompletableFuture<V> future;
+
+    synchronized (this.entries) {
+      final CachedValue<V> existing = this.entries.get(key);
+
+      if (existing != null && !existing.isExpired()) {
+        this.hits.increment();
+        return existing.future;
+      }
+
+      // concurrent misses share the same pending future
+      future = new CompletableFuture<>();
+      this.entries.put(key, new CachedValue<>(future, System.currentTimeMillis() + this.ttlMillis));
+    }
+
+    this.misses.increment();
+
+    try {
+      loader.apply(key).whenComplete((result, t) -> {
+        if (t != null) {
+          invalidate(key, future);
+          future.completeExceptionally(t);
+        } else
+          future.complete(result);
+      });
+    } catch (Throwable t) {
+      invalidate(key, future);
+      future.completeExceptionally(t);
+    }
+
+    return future;
+  }
+
+  @Nullable
+  public V getIfPresent(K key) {
+    if (!isEnabled())
+      return null;
+
+    synchronized (this.entries) {
+      final CachedValue<V> existing = this.entries.get(key);
+
+      if (existing != null && !existing.isExpired() && existing.future.isDone() && !existing.future.isCompletedExceptionally()) {
+        this.hits.increment();
+        return existing.future.join();
+      }
+    }
+
+    this.misses.increment();
+
+    return null;
+  }
+
+  public void put(K key, V value) {
+    if (!isEnabled())
+      return;
+
+    synchronized (this.entries) {
+      this.entries.put(key, new CachedValue<>(
+          CompletableFuture.completedFuture(value),
+          System.currentTimeMillis() + this.ttlMillis));
+    }
+  }
+
+  public void invalidate(K key) {
+    synchronized (this.entries) {
+      this.entries.remove(key);
+    }
+  }
+
+  public void invalidateIf(Predicate<K> predicate) {
+    synchronized (this.entries) {
+      this.entries.keySet().removeIf(predicate);
+    }
+  }
+
+  public void invalidateAll() {
+    synchronized (this.entries) {
+      this.entries.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (this.entries) {
+      return this.entries.size();
+    }
+  }
+
+  private void invalidate(K key, CompletableFuture<V> future) {
+    synchronized (this.entries) {
+      final CachedValue<V> entry = this.entries.get(key);
+
+      // it might have already been replaced in the meantime
+      if (entry != null && entry.future == future)
+        this.entries.remove(key);
+    }
+  }
+
+
+  private static class CachedValue<V> {
+
+    private final CompletableFuture<V> future;
+    private final long expiresAt;
+
+    CachedValue(CompletableFuture<V> future, long expiresAt) {
+      this.future = future;
+      this.expiresAt = expiresAt;
+    }
+
+    boolean isExpired() {
+      return System.currentTimeMillis() >= this.expiresAt;
+    }
+  }
+}
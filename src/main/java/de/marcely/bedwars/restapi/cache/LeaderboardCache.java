@@ -0,0 +1,86 @@
+package de.marcely.bedwars.restapi.cache;
+
+import de.marcely.bedwars.api.event.player.PlayerStatChangeEvent;
+import de.marcely.bedwars.api.player.LeaderboardFetchResult;
+import de.marcely.bedwars.api.player.PlayerDataAPI;
+import de.marcely.bedwars.api.player.PlayerStatSet;
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.util.StorageEndpoint;
+import de.marcely.bedwars.restapi.util.Util;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.Data;
+import lombok.Getter;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.jetbrains.annotations.Nullable;
+
+public class LeaderboardCache implements Listener {
+
+  @Getter
+  private final ExpiringCache<Key, LeaderboardPage> pages = new ExpiringCache<>(
+      Configs.leaderboardCacheMaxPages,
+      Configs.leaderboardCacheTtlSeconds * 1000L);
+  @Getter
+  private final ExpiringCache<String, LeaderboardSnapshot> snapshots = new ExpiringCache<>(
+      Configs.leaderboardSnapshotMaxCount,
+      Configs.leaderboardSnapshotTtlSeconds * 1000L);
+
+  private final SecureRandom random = new SecureRandom();
+
+  public CompletableFuture<LeaderboardPage> fetch(PlayerStatSet set, int minPos, int maxPos) {
+    return this.pages.get(
+        new Key(set.getId(), minPos, maxPos),
+        key -> fetchUncached(set, minPos, maxPos)
+            .thenApply(res -> LeaderboardPage.from(set.getId(), minPos, maxPos, res)));
+  }
+
+  public CompletableFuture<LeaderboardFetchResult> fetchUncached(PlayerStatSet set, int minPos, int maxPos) {
+    return Util.getFuture(c -> PlayerDataAPI.get().fetchLeaderboard(set, minPos, maxPos, c), StorageEndpoint.LEADERBOARD);
+  }
+
+  public LeaderboardSnapshot createSnapshot(List<PlayerStatSet> statSets, int startPos, int pageSize) {
+    final byte[] idBytes = new byte[12];
+
+    this.random.nextBytes(idBytes);
+
+    final LeaderboardSnapshot snapshot = new LeaderboardSnapshot(
+        Base64.getUrlEncoder().withoutPadding().encodeToString(idBytes),
+        Collections.unmodifiableList(new ArrayList<>(statSets)),
+        startPos,
+        pageSize,
+        System.currentTimeMillis() + Configs.leaderboardSnapshotTtlSeconds * 1000L);
+
+    this.snapshots.put(snapshot.getId(), snapshot);
+
+    return snapshot;
+  }
+
+  @Nullable
+  public LeaderboardSnapshot getSnapshot(String id) {
+    return this.snapshots.getIfPresent(id);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onStatChange(PlayerStatChangeEvent event) {
+    if (!Configs.leaderboardCacheInvalidateOnStatChange)
+      return;
+
+    // we can't tell which stat sets depend on the changed stat
+    this.pages.invalidateAll();
+  }
+
+
+  @Data
+  public static class Key {
+
+    private final String statSetId;
+    private final int minPos;
+    private final int maxPos;
+  }
+}
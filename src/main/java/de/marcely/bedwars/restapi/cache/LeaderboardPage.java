@@ -0,0 +1,85 @@
+package de.marcely.bedwars.restapi.cache;
+
+import de.marcely.bedwars.api.player.LeaderboardFetchResult;
+import de.marcely.bedwars.api.player.PlayerProperties;
+import de.marcely.bedwars.api.player.PlayerStats;
+import de.marcely.bedwars.restapi.model.player.PlayerFullLeaderboardPositionsModel;
+import de.marcely.bedwars.restapi.model.player.PlayerPropertiesModel;
+import de.marcely.bedwars.restapi.model.player.PlayerStatsModel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardPage {
+
+  private final String statSetId;
+  private final int minPos;
+  private final int maxPos;
+  // only the ranks that exist, ordered by their rank
+  private final List<Entry> entries;
+
+  // whether there might be further ranks after this page
+  public boolean isFull() {
+    return !this.entries.isEmpty() && this.entries.get(this.entries.size() - 1).rank == this.maxPos;
+  }
+
+  public static LeaderboardPage from(String statSetId, int minPos, int maxPos, LeaderboardFetchResult result) {
+    final ArrayList<Entry> entries = new ArrayList<>();
+
+    // rank > 0 ends it in case maxPos is Integer.MAX_VALUE and it overflows
+    for (int rank = minPos; rank <= maxPos && rank > 0; rank++) {
+      final PlayerStats rankStats = result.getStatsAtRank(rank);
+      final PlayerProperties rankProperties = result.getPropertiesAtRank(rank);
+
+      if (rankStats == null || rankProperties == null)
+        continue;
+
+      entries.add(new Entry(
+          rank,
+          PlayerStatsModel.from(rankStats),
+          PlayerPropertiesModel.from(rankProperties)));
+    }
+
+    entries.trimToSize();
+
+    return new LeaderboardPage(statSetId, minPos, maxPos, entries);
+  }
+
+  // merges the pages of multiple stat sets into one entry per player, in the order in which they were passed
+  public static List<PlayerFullLeaderboardPositionsModel> merge(List<LeaderboardPage> pages) {
+    final Map<UUID, PlayerFullLeaderboardPositionsModel> players = new LinkedHashMap<>();
+
+    for (LeaderboardPage page : pages) {
+      for (Entry entry : page.entries) {
+        players.computeIfAbsent(
+                entry.stats.getPlayerUUID(),
+                g0 -> new PlayerFullLeaderboardPositionsModel(
+                    entry.stats.getPlayerUUID(),
+                    new HashMap<>(),
+                    entry.stats,
+                    entry.properties
+                ))
+            .getLeaderboardPositions().put(page.statSetId, entry.rank);
+      }
+    }
+
+    return new ArrayList<>(players.values());
+  }
+
+
+  @Getter
+  @AllArgsConstructor
+  public static class Entry {
+
+    private final int rank;
+    private final PlayerStatsModel stats;
+    private final PlayerPropertiesModel properties;
+  }
+}
@@ -0,0 +1,74 @@
+package de.marcely.bedwars.restapi.cache;
+
+import de.marcely.bedwars.api.player.PlayerStatSet;
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.model.player.PlayerFullLeaderboardPositionsModel;
+import de.marcely.bedwars.restapi.util.Util;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.Data;
+import lombok.Getter;
+
+// a walk through the leaderboard using cursors. once a page has been fetched within it,
+// it'll always be answered with the same entries until the snapshot expires
+// or the page got dropped as one of the least recently used ones
+@Getter
+public class LeaderboardSnapshot {
+
+  private final String id;
+  private final List<PlayerStatSet> statSets;
+  private final int startPos;
+  private final int pageSize;
+  private final long expiresAt;
+
+  private final ExpiringCache<Integer, Page> pages;
+
+  LeaderboardSnapshot(String id, List<PlayerStatSet> statSets, int startPos, int pageSize, long expiresAt) {
+    this.id = id;
+    this.statSets = statSets;
+    this.startPos = startPos;
+    this.pageSize = pageSize;
+    this.expiresAt = expiresAt;
+    this.pages = new ExpiringCache<>(Configs.leaderboardSnapshotMaxPages, Math.max(1, expiresAt - System.currentTimeMillis()));
+  }
+
+  public boolean isExpired() {
+    return System.currentTimeMillis() >= this.expiresAt;
+  }
+
+  // whether it's the first position of a page that we might have returned a cursor for
+  public boolean isPageStart(int minPos) {
+    return minPos >= this.startPos
+        && (minPos - this.startPos) % this.pageSize == 0
+        && minPos <= Integer.MAX_VALUE - this.pageSize + 1;
+  }
+
+  public CompletableFuture<Page> getPage(LeaderboardCache cache, int minPos) {
+    if (!isPageStart(minPos))
+      throw new IllegalArgumentException("minPos " + minPos + " isn't the start of a page");
+
+    return this.pages.get(minPos, key -> {
+      final int maxPos = minPos + this.pageSize - 1;
+
+      return Util.fanOut(
+              this.statSets,
+              set -> cache.fetch(set, minPos, maxPos),
+              Configs.leaderboardMaxParallelFetches)
+          .thenApply(results -> new Page(
+              minPos,
+              maxPos,
+              LeaderboardPage.merge(results),
+              results.stream().anyMatch(LeaderboardPage::isFull)));
+    });
+  }
+
+
+  @Data
+  public static class Page {
+
+    private final int minPos;
+    private final int maxPos;
+    private final List<PlayerFullLeaderboardPositionsModel> players;
+    private final boolean hasNext;
+  }
+}
@@ -0,0 +1,134 @@
+package de.marcely.bedwars.restapi.cache;
+
+import de.marcely.bedwars.api.player.LeaderboardFetchResult;
+import de.marcely.bedwars.api.player.PlayerProperties;
+import de.marcely.bedwars.api.player.PlayerStatSet;
+import de.marcely.bedwars.api.player.PlayerStats;
+import de.marcely.bedwars.restapi.model.player.PlayerFullLeaderboardPositionsModel;
+import de.marcely.bedwars.restapi.model.player.PlayerPropertiesModel;
+import de.marcely.bedwars.restapi.model.player.PlayerStatsModel;
+import de.marcely.bedwars.restapi.util.Util;
+import io.javalin.http.Context;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// walks through the leaderboard of a single stat set chunk by chunk. the next chunk is only
+// being fetched once the previous one has been written, so only one of them is held at a time.
+// blocks the calling thread while fetching, which is why it must run on the request's thread
+public class LeaderboardStream implements Iterator<PlayerFullLeaderboardPositionsModel> {
+
+  private final Context ctx;
+  private final LeaderboardCache cache;
+  private final PlayerStatSet statSet;
+  private final int maxPos;
+  private final int chunkSize;
+
+  private LeaderboardFetchResult chunk;
+  private int chunkMaxPos;
+  private int rank;
+  private PlayerFullLeaderboardPositionsModel next;
+
+  private LeaderboardStream(Context ctx, LeaderboardCache cache, PlayerStatSet statSet, LeaderboardFetchResult firstChunk, int minPos, int maxPos, int chunkSize) {
+    this.ctx = ctx;
+    this.cache = cache;
+    this.statSet = statSet;
+    this.maxPos = maxPos;
+    this.chunkSize = chunkSize;
+    this.chunk = firstChunk;
+    this.chunkMaxPos = getChunkMaxPos(minPos, maxPos, chunkSize);
+    this.rank = minPos;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (this.next == null)
+      this.next = produceNext();
+
+    return this.next != null;
+  }
+
+  @Override
+  public PlayerFullLeaderboardPositionsModel next() {
+    if (!hasNext())
+      throw new NoSuchElementException();
+
+    final PlayerFullLeaderboardPositionsModel next = this.next;
+
+    this.next = null;
+
+    return next;
+  }
+
+  private PlayerFullLeaderboardPositionsModel produceNext() {
+    while (this.rank <= this.maxPos) {
+      if (this.rank > this.chunkMaxPos && !fetchNextChunk())
+        return null;
+
+      final int rank = this.rank++;
+      final PlayerStats stats = this.chunk.getStatsAtRank(rank);
+      final PlayerProperties properties = this.chunk.getPropertiesAtRank(rank);
+
+      if (stats == null || properties == null)
+        continue;
+
+      return new PlayerFullLeaderboardPositionsModel(
+          stats.getPlayerUUID(),
+          Collections.singletonMap(this.statSet.getId(), rank),
+          PlayerStatsModel.from(stats),
+          PlayerPropertiesModel.from(properties));
+    }
+
+    return null;
+  }
+
+  private boolean fetchNextChunk() {
+    // the storage ran out of ranks, there's no point in asking for the following ones
+    if (this.chunk.getStatsAtRank(this.chunkMaxPos) == null)
+      return false;
+
+    final int minPos = this.chunkMaxPos + 1;
+
+    this.chunk = null; // let it be collected while the next one is being fetched
+    this.chunkMaxPos = getChunkMaxPos(minPos, this.maxPos, this.chunkSize);
+
+    try {
+      this.chunk = this.cache.fetchUncached(this.statSet, minPos, this.chunkMaxPos).join();
+    } catch (CompletionException | CancellationException e) {
+      // the status has already been sent at this point. ending the response normally
+      // would leave the client with what looks like a complete, but shortened result
+      Util.abortResponse(this.ctx, e.getCause() != null ? e.getCause() : e);
+      throw e;
+    }
+
+    return true;
+  }
+
+  private static int getChunkMaxPos(int minPos, int maxPos, int chunkSize) {
+    return (int) Math.min(maxPos, (long) minPos + chunkSize - 1);
+  }
+
+  // fetches the first chunk right away, so that its failures can still change the status of the response
+  public static Stream<PlayerFullLeaderboardPositionsModel> stream(
+      Context ctx,
+      LeaderboardCache cache,
+      PlayerStatSet statSet,
+      int minPos,
+      int maxPos,
+      int chunkSize) throws Exception {
+
+    final LeaderboardFetchResult firstChunk = Util.await(cache.fetchUncached(statSet, minPos, getChunkMaxPos(minPos, maxPos, chunkSize)));
+
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(
+            new LeaderboardStream(ctx, cache, statSet, firstChunk, minPos, maxPos, chunkSize),
+            Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+}
@@ -0,0 +1,74 @@
+package de.marcely.bedwars.restapi.cache;
+
+import de.marcely.bedwars.api.event.player.PlayerStatChangeEvent;
+import de.marcely.bedwars.api.player.PlayerAchievements;
+import de.marcely.bedwars.api.player.PlayerDataAPI;
+import de.marcely.bedwars.api.player.PlayerProperties;
+import de.marcely.bedwars.api.player.PlayerStats;
+import de.marcely.bedwars.api.remote.RemoteAPI;
+import de.marcely.bedwars.api.remote.RemotePlayer;
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.model.player.PlayerAchievementsModel;
+import de.marcely.bedwars.restapi.model.player.PlayerPropertiesModel;
+import de.marcely.bedwars.restapi.model.player.PlayerStatsModel;
+import de.marcely.bedwars.restapi.util.StorageEndpoint;
+import de.marcely.bedwars.restapi.util.Util;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.Getter;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+@Getter
+public class PlayerDataCache implements Listener {
+
+  private final ExpiringCache<UUID, PlayerStatsModel> stats = newCache();
+  private final ExpiringCache<UUID, PlayerPropertiesModel> properties = newCache();
+  private final ExpiringCache<UUID, PlayerAchievementsModel> achievements = newCache();
+  private final ExpiringCache<String, Optional<UUID>> uuidsByName = new ExpiringCache<>(
+      Configs.uuidCacheMaxEntries,
+      Configs.uuidCacheTtlSeconds * 1000L);
+
+  public CompletableFuture<PlayerStatsModel> getStats(UUID uuid) {
+    return this.stats.get(uuid, key ->
+        Util.<PlayerStats>getFuture(c -> PlayerDataAPI.get().getStats(key, c), StorageEndpoint.STATS)
+            .thenApply(PlayerStatsModel::from));
+  }
+
+  public CompletableFuture<PlayerPropertiesModel> getProperties(UUID uuid) {
+    return this.properties.get(uuid, key ->
+        Util.<PlayerProperties>getFuture(c -> PlayerDataAPI.get().getProperties(key, c), StorageEndpoint.PROPERTIES)
+            .thenApply(PlayerPropertiesModel::from));
+  }
+
+  public CompletableFuture<PlayerAchievementsModel> getAchievements(UUID uuid) {
+    return this.achievements.get(uuid, key ->
+        Util.<PlayerAchievements>getFuture(c -> PlayerDataAPI.get().getAchievements(key, c), StorageEndpoint.ACHIEVEMENTS)
+            .thenApply(PlayerAchievementsModel::from));
+  }
+
+  public CompletableFuture<Optional<UUID>> getUUIDByName(String name) {
+    // no need to bother the storage for those that are online
+    final RemotePlayer player = RemoteAPI.get().getOnlinePlayer(name);
+
+    if (player != null)
+      return CompletableFuture.completedFuture(Optional.of(player.getUniqueId()));
+
+    return this.uuidsByName.get(name.toLowerCase(Locale.ROOT), key ->
+        Util.getFuture(c -> PlayerDataAPI.get().getUUIDByName(key, c), StorageEndpoint.UUID));
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onStatChange(PlayerStatChangeEvent event) {
+    this.stats.invalidate(event.getStats().getPlayerUUID());
+  }
+
+  private static <V> ExpiringCache<UUID, V> newCache() {
+    return new ExpiringCache<>(
+        Configs.playerCacheMaxEntries,
+        Configs.playerCacheTtlSeconds * 1000L);
+  }
+}
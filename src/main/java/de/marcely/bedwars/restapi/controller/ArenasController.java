@@ -1,9 +1,10 @@
 package de.marcely.bedwars.restapi.controller;
 
-import de.marcely.bedwars.api.remote.RemoteAPI;
 import de.marcely.bedwars.api.remote.RemoteArena;
+import de.marcely.bedwars.restapi.RestApiPlugin;
 import de.marcely.bedwars.restapi.model.ErrorResponse;
 import de.marcely.bedwars.restapi.model.misc.ArenaModel;
+import de.marcely.bedwars.restapi.snapshot.RemoteSnapshot;
 import io.javalin.http.BadRequestResponse;
 import io.javalin.http.Context;
 import io.javalin.http.NotFoundResponse;
@@ -26,7 +27,7 @@ public class ArenasController {
       methods = {HttpMethod.GET}
   )
   public static void getAll(Context ctx) {
-    ctx.json(ArenaModel.from(RemoteAPI.get().getArenas()));
+    RestApiPlugin.getInstance().getRemoteSnapshots().get().getArenasJson().write(ctx);
   }
 
 
@@ -50,17 +51,23 @@ public class ArenasController {
   )
   public static void getOne(Context ctx) {
     final String restId = validRestId(ctx);
+    final RemoteArena remoteArena;
 
+    // resolved through the index first, as the snapshot may still contain arenas of unregistered servers
     try {
-      final RemoteArena arena = ArenaModel.fromRestId(restId);
-
-      if (arena == null)
-        throw new NotFoundResponse("No arena under the given restId found");
-
-      ctx.json(ArenaModel.from(arena));
+      remoteArena = ArenaModel.fromRestId(restId);
     } catch (IllegalArgumentException e) {
       throw new BadRequestResponse("restId has an invalid format");
     }
+
+    if (remoteArena == null)
+      throw new NotFoundResponse("No arena under the given restId found");
+
+    final RemoteSnapshot snapshot = RestApiPlugin.getInstance().getRemoteSnapshots().getIfMaintained();
+    final ArenaModel arena = snapshot != null ? snapshot.getArenasByRestId().get(restId) : null;
+
+    // it might have been created after the snapshot, or there is none
+    ctx.json(arena != null ? arena : ArenaModel.from(remoteArena));
   }
 
 
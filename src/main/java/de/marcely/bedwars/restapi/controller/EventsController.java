@@ -0,0 +1,91 @@
+package de.marcely.bedwars.restapi.controller;
+
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import de.marcely.bedwars.restapi.model.ErrorResponse;
+import de.marcely.bedwars.restapi.stream.EventStream;
+import de.marcely.bedwars.restapi.stream.StreamEventType;
+import de.marcely.bedwars.restapi.stream.StreamFilter;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.http.ServiceUnavailableResponse;
+import io.javalin.http.sse.SseHandler;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiContent;
+import io.javalin.openapi.OpenApiParam;
+import io.javalin.openapi.OpenApiResponse;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.Nullable;
+
+public class EventsController {
+
+  @OpenApi(
+      summary = "Subscribe to changes of arenas, players and servers",
+      description = "Server-Sent Events stream. Event names: arena-update (ArenaModel), player-join and player-leave (OnlinePlayerModel), "
+          + "server-register and server-unregister (ServerModel). "
+          + "An overflow event is being sent if the client didn't keep up and events have been dropped. "
+          + "The full state should be fetched anew in that case.",
+      operationId = "streamEvents",
+      tags = "Events",
+      queryParams = {
+          @OpenApiParam(name = "types", type = String.class, description = "Comma-separated list of event names to receive. Default is all"),
+          @OpenApiParam(name = "servers", type = String.class, description = "Comma-separated list of server channel names to receive events of. Default is all"),
+          @OpenApiParam(name = "arenas", type = String.class, description = "Comma-separated list of arena rest ids to receive events of. Default is all")
+      },
+      responses = {
+          @OpenApiResponse(status = "200", content = @OpenApiContent(type = "text/event-stream")),
+          @OpenApiResponse(status = "400", content = {@OpenApiContent(from = ErrorResponse.class)}),
+          @OpenApiResponse(status = "503", content = {@OpenApiContent(from = ErrorResponse.class)})
+      },
+      path = "/events",
+      methods = {HttpMethod.GET}
+  )
+  public static void stream(Context ctx) throws Exception {
+    final EventStream stream = RestApiPlugin.getInstance().getEventStream();
+    final StreamFilter filter = validFilter(ctx);
+
+    if (!stream.isEnabled())
+      throw new ServiceUnavailableResponse("The event stream has been disabled");
+    if (!stream.hasCapacity())
+      throw new ServiceUnavailableResponse("Too many clients are subscribed to the event stream");
+
+    new SseHandler(client -> stream.subscribe(client, filter)).handle(ctx);
+  }
+
+
+  private static StreamFilter validFilter(Context ctx) {
+    final Set<String> typeIds = splitQueryParam(ctx, "types");
+    Set<StreamEventType> types = null;
+
+    if (typeIds != null) {
+      types = new HashSet<>();
+
+      for (String id : typeIds) {
+        final StreamEventType type = StreamEventType.fromId(id);
+
+        if (type == null)
+          throw new BadRequestResponse(String.format("Event type '%s' does not exist", id));
+
+        types.add(type);
+      }
+    }
+
+    return new StreamFilter(types, splitQueryParam(ctx, "servers"), splitQueryParam(ctx, "arenas"));
+  }
+
+  @Nullable
+  private static Set<String> splitQueryParam(Context ctx, String name) {
+    final String raw = ctx.queryParam(name);
+
+    if (raw == null || raw.isEmpty())
+      return null;
+
+    return Arrays.stream(raw.split(","))
+        .map(String::trim)
+        .filter(s -> !s.isEmpty())
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,29 @@
+package de.marcely.bedwars.restapi.controller;
+
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import io.javalin.http.Context;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiContent;
+import io.javalin.openapi.OpenApiResponse;
+
+public class MetricsController {
+
+  @OpenApi(
+      summary = "Get metrics about the requests, the storage and the caches",
+      description = "In the Prometheus text format.",
+      operationId = "getMetrics",
+      tags = "Metrics",
+      responses = {
+          @OpenApiResponse(status = "200", content = @OpenApiContent(type = "text/plain"))
+      },
+      path = "/metrics",
+      methods = {HttpMethod.GET}
+  )
+  public static void getAll(Context ctx) {
+    final RestApiPlugin plugin = RestApiPlugin.getInstance();
+
+    ctx.contentType("text/plain; version=0.0.4; charset=utf-8");
+    ctx.result(plugin.getMetrics().render(plugin));
+  }
+}
@@ -3,10 +3,13 @@ package de.marcely.bedwars.restapi.controller;
 import de.marcely.bedwars.api.player.PlayerAchievement;
 import de.marcely.bedwars.api.player.PlayerAchievements;
 import de.marcely.bedwars.api.player.PlayerDataAPI;
+import de.marcely.bedwars.restapi.RestApiPlugin;
 import de.marcely.bedwars.restapi.model.ErrorResponse;
 import de.marcely.bedwars.restapi.model.player.PlayerAchievementModel;
 import de.marcely.bedwars.restapi.model.player.PlayerAchievementsModel;
 import de.marcely.bedwars.restapi.model.player.PlayerAchievementsModel.Earning;
+import de.marcely.bedwars.restapi.util.PrebuiltJson;
+import de.marcely.bedwars.restapi.util.StorageEndpoint;
 import de.marcely.bedwars.restapi.util.Util;
 import io.javalin.http.BadRequestResponse;
 import io.javalin.http.Context;
@@ -24,6 +27,8 @@ import java.util.stream.Collectors;
 
 public class PlayersAchievementsController {
 
+  private static volatile PrebuiltJson allTypesJson;
+
   @OpenApi(
       summary = "Get the achievements a player has earned",
       operationId = "getOnePlayersAchievements",
@@ -40,9 +45,9 @@ public class PlayersAchievementsController {
   )
   public static void getOne(Context ctx) {
     final UUID uuid = validUUID(ctx);
-    final PlayerAchievements achievements = Util.getAwait(c -> PlayerDataAPI.get().getAchievements(uuid, c));
 
-    ctx.json(PlayerAchievementsModel.from(achievements));
+    ctx.future(() -> RestApiPlugin.getInstance().getPlayerDataCache().getAchievements(uuid)
+        .thenAccept(ctx::json));
   }
 
 
@@ -77,44 +82,53 @@ public class PlayersAchievementsController {
     final boolean notify = ctx.queryParamAsClass("notify", Boolean.class)
         .getOrDefault(true);
     final PlayerAchievementsModel replacement = ctx.bodyAsClass(PlayerAchievementsModel.class);
-    final PlayerAchievements achievements = Util.getAwait(c -> PlayerDataAPI.get().getAchievements(uuid, c));
-    Collection<String> remove;
-
-    // find which ones to remove
-    if (!replaceAll)
-      remove = Collections.emptyList();
-    else {
-      remove = achievements.getEarnedIds().stream()
-          .filter(id -> replacement.getEarnings().stream().noneMatch(e -> e.getAchievementId().equals(id)))
-          .collect(Collectors.toList());
-    }
 
-    // find which ones to update
-    for (Earning earning : replacement.getEarnings()) {
-      final PlayerAchievement achievement = PlayerDataAPI.get().getAchievementTypeById(earning.getAchievementId());
+    ctx.future(() -> Util.<PlayerAchievements>getFuture(
+            c -> PlayerDataAPI.get().getAchievements(uuid, c),
+            StorageEndpoint.ACHIEVEMENTS)
+        .thenAccept(achievements -> {
+          Collection<String> remove;
 
-      if (achievement == null)
-        throw new NotFoundResponse("No achievement with id exists: " + earning.getAchievementId());
-    }
+          // find which ones to remove
+          if (!replaceAll)
+            remove = Collections.emptyList();
+          else {
+            remove = achievements.getEarnedIds().stream()
+                .filter(id -> replacement.getEarnings().stream().noneMatch(e -> e.getAchievementId().equals(id)))
+                .collect(Collectors.toList());
+          }
 
-    // update
-    for (Earning earning : replacement.getEarnings()) {
-      final PlayerAchievement achievement = PlayerDataAPI.get().getAchievementTypeById(earning.getAchievementId());
+          // find which ones to update
+          for (Earning earning : replacement.getEarnings()) {
+            final PlayerAchievement achievement = PlayerDataAPI.get().getAchievementTypeById(earning.getAchievementId());
 
-      achievements.earn(achievement, !notify);
-    }
+            if (achievement == null)
+              throw new NotFoundResponse("No achievement with id exists: " + earning.getAchievementId());
+          }
 
-    for (String id : remove) {
-      final PlayerAchievement achievement = PlayerDataAPI.get().getAchievementTypeById(id);
+          // update
+          for (Earning earning : replacement.getEarnings()) {
+            final PlayerAchievement achievement = PlayerDataAPI.get().getAchievementTypeById(earning.getAchievementId());
 
-      if (achievement == null)
-        return;
+            achievements.earn(achievement, !notify);
+          }
 
-      achievements.remove(achievement);
-    }
+          for (String id : remove) {
+            final PlayerAchievement achievement = PlayerDataAPI.get().getAchievementTypeById(id);
 
-    achievements.save();
-    ctx.json(PlayerAchievementsModel.from(achievements));
+            if (achievement == null)
+              return;
+
+            achievements.remove(achievement);
+          }
+
+          achievements.save();
+
+          final PlayerAchievementsModel model = PlayerAchievementsModel.from(achievements);
+
+          RestApiPlugin.getInstance().getPlayerDataCache().getAchievements().put(uuid, model);
+          ctx.json(model);
+        }));
   }
 
 
@@ -130,7 +144,10 @@ public class PlayersAchievementsController {
       methods = {HttpMethod.GET}
   )
   public static void getAllTypes(Context ctx) {
-    ctx.json(PlayerAchievementModel.from(PlayerDataAPI.get().getRegisteredAchievementTypes()));
+    final Collection<PlayerAchievementModel> models = PlayerAchievementModel.from(PlayerDataAPI.get().getRegisteredAchievementTypes());
+
+    // only serialize (and compress) it again if a type has been (un-)registered
+    (allTypesJson = PrebuiltJson.reuseIfEqual(allTypesJson, models)).write(ctx);
   }
 
 
@@ -1,13 +1,14 @@
 package de.marcely.bedwars.restapi.controller;
 
-import de.marcely.bedwars.api.player.PlayerDataAPI;
 import de.marcely.bedwars.api.remote.RemoteAPI;
 import de.marcely.bedwars.api.remote.RemotePlayer;
-import de.marcely.bedwars.api.remote.RemoteServer;
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.RestApiPlugin;
 import de.marcely.bedwars.restapi.model.ErrorResponse;
 import de.marcely.bedwars.restapi.model.misc.OnlinePlayerModel;
-import de.marcely.bedwars.restapi.model.player.PlayerUUIDModel;
-import de.marcely.bedwars.restapi.util.Util;
+import de.marcely.bedwars.restapi.model.misc.OnlinePlayersPageModel;
+import de.marcely.bedwars.restapi.snapshot.RemoteSnapshot;
+import de.marcely.bedwars.restapi.util.Pagination;
 import io.javalin.http.BadRequestResponse;
 import io.javalin.http.Context;
 import io.javalin.http.NotFoundResponse;
@@ -15,10 +16,12 @@ import io.javalin.openapi.HttpMethod;
 import io.javalin.openapi.OpenApi;
 import io.javalin.openapi.OpenApiContent;
 import io.javalin.openapi.OpenApiParam;
-import io.javalin.openapi.OpenApiRequestBody;
 import io.javalin.openapi.OpenApiResponse;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -53,37 +56,108 @@ public class PlayersOnlineController {
         .map(s -> s.isEmpty() ? new String[0] : s.split(","))
         .get();
 
+    final RemoteSnapshot snapshot = RestApiPlugin.getInstance().getRemoteSnapshots().get();
+
     // wants all
     if (serverFilters.length == 0 && playerNameFilters.length == 0) {
-      ctx.json(OnlinePlayerModel.from(RemoteAPI.get().getOnlinePlayers()));
+      snapshot.getPlayersJson().write(ctx);
       return;
     }
 
     // only certain players
     if (serverFilters.length == 0) {
-      final Collection<RemotePlayer> players = Arrays.stream(playerNameFilters)
-          .map(RemoteAPI.get()::getOnlinePlayer)
+      final Collection<OnlinePlayerModel> players = Arrays.stream(playerNameFilters)
+          .map(snapshot::getPlayerByName)
           .filter(Objects::nonNull)
           .collect(Collectors.toList());
 
-      ctx.json(OnlinePlayerModel.from(players));
+      ctx.json(players);
       return;
     }
 
     // filter
-    final Collection<RemoteServer> servers = Arrays.stream(serverFilters)
-        .map(name -> RemoteAPI.get().getServers().stream()
-            .filter(s -> name.equals(s.getBungeeChannelName()))
-            .findAny().orElse(null))
-        .filter(Objects::nonNull)
-        .collect(Collectors.toSet());
-    final Collection<RemotePlayer> players = RemoteAPI.get().getOnlinePlayers().stream()
-        .filter(p -> servers.contains(p.getServer()))
+    final Collection<String> servers = new HashSet<>(Arrays.asList(serverFilters));
+    final Collection<OnlinePlayerModel> players = snapshot.getPlayers().stream()
+        .filter(p -> servers.contains(p.getServerChannelName()))
         .filter(p -> playerNameFilters.length == 0 || Arrays.stream(playerNameFilters)
             .anyMatch(name -> name.equalsIgnoreCase(p.getName())))
         .collect(Collectors.toList());
 
-    ctx.json(OnlinePlayerModel.from(players));
+    ctx.json(players);
+  }
+
+
+  @OpenApi(
+      summary = "Get the players that are currently online in pages",
+      description = "Players are ordered by their UUID. Walking through the pages neither skips nor repeats players that stay online meanwhile. "
+          + "Only pass the cursor query param for the following pages, the other ones are contained within it.",
+      operationId = "getPlayersPage",
+      tags = "Online Players",
+      queryParams = {
+          @OpenApiParam(
+              name = "serverChannelNames", type = String[].class, example = "Hub-1,Bedwars-1",
+              description = "Whether to only fetch the info from certain servers (, is the seperator). Leave it empty to fetch from all servers."),
+          @OpenApiParam(name = "limit", type = Integer.class, description = "The max amount of players within the page. The server may enforce a lower max."),
+          @OpenApiParam(name = "cursor", type = String.class, description = "The nextCursor of the previous page.")
+      },
+      responses = {
+          @OpenApiResponse(status = "200", content = @OpenApiContent(from = OnlinePlayersPageModel.class)),
+          @OpenApiResponse(status = "400", content = {@OpenApiContent(from = ErrorResponse.class)})
+      },
+      path = "/players/online/pages",
+      methods = {HttpMethod.GET}
+  )
+  public static void getPage(Context ctx) {
+    final String cursor = ctx.queryParam("cursor");
+    final int limit;
+    final UUID after;
+    final String servers;
+
+    if (cursor != null) {
+      final String[] fields = Pagination.decodeCursor(cursor, "online", 3);
+
+      try {
+        limit = Integer.parseInt(fields[0]);
+        after = UUID.fromString(fields[1]);
+        servers = fields[2];
+
+        if (limit < 1 || limit > Configs.paginationMaxPageSize)
+          throw new BadRequestResponse("cursor is invalid");
+      } catch (IllegalArgumentException e) {
+        throw new BadRequestResponse("cursor is invalid");
+      }
+    } else {
+      limit = Pagination.validLimit(ctx);
+      after = null;
+      servers = ctx.queryParamAsClass("serverChannelNames", String.class).getOrDefault("");
+    }
+
+    final Collection<String> serverFilter = servers.isEmpty() ? null : new HashSet<>(Arrays.asList(servers.split(",")));
+    final RemoteSnapshot snapshot = RestApiPlugin.getInstance().getRemoteSnapshots().get();
+    final List<OnlinePlayerModel> sorted = snapshot.getPlayersSortedByUUID();
+    final List<OnlinePlayerModel> players = new ArrayList<>(Math.min(limit, sorted.size()));
+    boolean hasNext = false;
+
+    // keyset pagination: continue right after the last player of the previous page
+    for (int i = after != null ? snapshot.indexOfPlayerAfter(after) : 0; i < sorted.size(); i++) {
+      final OnlinePlayerModel player = sorted.get(i);
+
+      if (serverFilter != null && !serverFilter.contains(player.getServerChannelName()))
+        continue;
+
+      if (players.size() == limit) {
+        hasNext = true;
+        break;
+      }
+
+      players.add(player);
+    }
+
+    final String nextCursor = hasNext
+        ? Pagination.encodeCursor("online", String.valueOf(limit), players.get(players.size() - 1).getUuid().toString(), servers)
+        : null;
+
+    ctx.json(new OnlinePlayersPageModel(players, nextCursor, Pagination.writeNextLink(ctx, nextCursor)));
   }
 
 
@@ -104,12 +178,24 @@ public class PlayersOnlineController {
   )
   public static void getOne(Context ctx) {
     final UUID uuid = validUUID(ctx);
-    final RemotePlayer player = RemoteAPI.get().getOnlinePlayer(uuid);
+    final RemoteSnapshot snapshot = RestApiPlugin.getInstance().getRemoteSnapshots().getIfMaintained();
+
+    if (snapshot == null) {
+      final RemotePlayer player = RemoteAPI.get().getOnlinePlayer(uuid);
+
+      if (player == null)
+        throw new NotFoundResponse("Player not online");
+
+      ctx.json(OnlinePlayerModel.from(player));
+      return;
+    }
+
+    final OnlinePlayerModel player = snapshot.getPlayersByUUID().get(uuid);
 
     if (player == null)
       throw new NotFoundResponse("Player not online");
 
-    ctx.json(OnlinePlayerModel.from(player));
+    ctx.json(player);
   }
 
 
@@ -2,8 +2,10 @@ package de.marcely.bedwars.restapi.controller;
 
 import de.marcely.bedwars.api.player.PlayerDataAPI;
 import de.marcely.bedwars.api.player.PlayerProperties;
+import de.marcely.bedwars.restapi.RestApiPlugin;
 import de.marcely.bedwars.restapi.model.ErrorResponse;
 import de.marcely.bedwars.restapi.model.player.PlayerPropertiesModel;
+import de.marcely.bedwars.restapi.util.StorageEndpoint;
 import de.marcely.bedwars.restapi.util.Util;
 import io.javalin.http.BadRequestResponse;
 import io.javalin.http.Context;
@@ -37,9 +39,9 @@ public class PlayersPropertiesController {
   )
   public static void getOne(Context ctx) {
     final UUID uuid = validUUID(ctx);
-    final PlayerProperties properties = Util.getAwait(c -> PlayerDataAPI.get().getProperties(uuid, c));
 
-    ctx.json(PlayerPropertiesModel.from(properties));
+    ctx.future(() -> RestApiPlugin.getInstance().getPlayerDataCache().getProperties(uuid)
+        .thenAccept(ctx::json));
   }
 
 
@@ -69,27 +71,36 @@ public class PlayersPropertiesController {
     final boolean replaceAll = ctx.queryParamAsClass("replaceAll", Boolean.class)
         .getOrDefault(false);
     final PlayerPropertiesModel replacement = ctx.bodyAsClass(PlayerPropertiesModel.class);
-    final PlayerProperties properties = Util.getAwait(c -> PlayerDataAPI.get().getProperties(uuid, c));
-    Collection<String> remove;
-
-    // find which ones to remove
-    if (!replaceAll)
-      remove = Collections.emptyList();
-    else {
-      remove = properties.getStoredKeys().stream()
-          .filter(id -> !replacement.getEntries().keySet().contains(id))
-          .collect(Collectors.toList());
-    }
 
-    // update
-    for (Map.Entry<String, String> e : replacement.getEntries().entrySet())
-      properties.set(e.getKey(), e.getValue());
+    ctx.future(() -> Util.<PlayerProperties>getFuture(
+            c -> PlayerDataAPI.get().getProperties(uuid, c),
+            StorageEndpoint.PROPERTIES)
+        .thenAccept(properties -> {
+          Collection<String> remove;
+
+          // find which ones to remove
+          if (!replaceAll)
+            remove = Collections.emptyList();
+          else {
+            remove = properties.getStoredKeys().stream()
+                .filter(id -> !replacement.getEntries().keySet().contains(id))
+                .collect(Collectors.toList());
+          }
+
+          // update
+          for (Map.Entry<String, String> e : replacement.getEntries().entrySet())
+            properties.set(e.getKey(), e.getValue());
+
+          for (String key : remove)
+            properties.remove(key);
+
+          properties.save();
 
-    for (String key : remove)
-      properties.remove(key);
+          final PlayerPropertiesModel model = PlayerPropertiesModel.from(properties);
 
-    properties.save();
-    ctx.json(PlayerPropertiesModel.from(properties));
+          RestApiPlugin.getInstance().getPlayerDataCache().getProperties().put(uuid, model);
+          ctx.json(model);
+        }));
   }
 
 
@@ -1,32 +1,49 @@
 package de.marcely.bedwars.restapi.controller;
 
-import de.marcely.bedwars.api.player.LeaderboardFetchResult;
 import de.marcely.bedwars.api.player.PlayerDataAPI;
-import de.marcely.bedwars.api.player.PlayerProperties;
 import de.marcely.bedwars.api.player.PlayerStatSet;
-import de.marcely.bedwars.api.player.PlayerStats;
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import de.marcely.bedwars.restapi.cache.LeaderboardCache;
+import de.marcely.bedwars.restapi.cache.LeaderboardPage;
+import de.marcely.bedwars.restapi.cache.LeaderboardSnapshot;
+import de.marcely.bedwars.restapi.cache.LeaderboardStream;
+import de.marcely.bedwars.restapi.cache.PlayerDataCache;
 import de.marcely.bedwars.restapi.model.ErrorResponse;
 import de.marcely.bedwars.restapi.model.player.PlayerFullLeaderboardPositionsModel;
+import de.marcely.bedwars.restapi.model.player.PlayerLeaderboardPageModel;
 import de.marcely.bedwars.restapi.model.player.PlayerLeaderboardPositionsModel;
-import de.marcely.bedwars.restapi.model.player.PlayerPropertiesModel;
 import de.marcely.bedwars.restapi.model.player.PlayerStatSetModel;
+import de.marcely.bedwars.restapi.model.player.PlayerStatsBatchRequestModel;
 import de.marcely.bedwars.restapi.model.player.PlayerStatsModel;
+import de.marcely.bedwars.restapi.util.Pagination;
+import de.marcely.bedwars.restapi.util.PrebuiltJson;
+import de.marcely.bedwars.restapi.util.StorageEndpoint;
 import de.marcely.bedwars.restapi.util.Util;
 import io.javalin.http.BadRequestResponse;
 import io.javalin.http.Context;
+import io.javalin.http.GoneResponse;
+import io.javalin.http.Header;
 import io.javalin.http.NotFoundResponse;
 import io.javalin.openapi.HttpMethod;
 import io.javalin.openapi.OpenApi;
 import io.javalin.openapi.OpenApiContent;
 import io.javalin.openapi.OpenApiParam;
+import io.javalin.openapi.OpenApiRequestBody;
 import io.javalin.openapi.OpenApiResponse;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class PlayersStatsController {
 
+  private static volatile PrebuiltJson allSetsJson;
+
   @OpenApi(
       summary = "Get the stats a player owns",
       operationId = "getOnePlayersStats",
@@ -44,9 +61,68 @@ public class PlayersStatsController {
   )
   public static void getOne(Context ctx) {
     final UUID uuid = validUUID(ctx);
-    final PlayerStats properties = Util.getAwait(c -> PlayerDataAPI.get().getStats(uuid, c));
 
-    ctx.json(PlayerStatsModel.from(properties));
+    ctx.future(() -> RestApiPlugin.getInstance().getPlayerDataCache().getStats(uuid)
+        .thenAccept(ctx::json));
+  }
+
+
+  @OpenApi(
+      summary = "Get the stats of multiple players at once",
+      description = "Players that have never joined the server are included with no stats.",
+      operationId = "getManyPlayersStats",
+      tags = "Player Stats",
+      requestBody = @OpenApiRequestBody(
+          content = @OpenApiContent(from = PlayerStatsBatchRequestModel.class),
+          required = true
+      ),
+      responses = {
+          @OpenApiResponse(status = "200", content = @OpenApiContent(from = PlayerStatsModel[].class),
+              description = "The stats in the same order as the UUIDs were given"),
+          @OpenApiResponse(status = "400", content = {@OpenApiContent(from = ErrorResponse.class)})
+      },
+      path = "/players/stats",
+      methods = {HttpMethod.POST}
+  )
+  public static void getMany(Context ctx) {
+    final PlayerStatsBatchRequestModel request = ctx.bodyAsClass(PlayerStatsBatchRequestModel.class);
+    final List<UUID> uuids = request.getUuids();
+    final Set<String> statSetIds;
+
+    if (uuids == null || uuids.isEmpty())
+      throw new BadRequestResponse("uuids cannot be empty");
+    if (uuids.size() > Configs.statsBatchMaxPlayers)
+      throw new BadRequestResponse("Cannot fetch the stats of more than " + Configs.statsBatchMaxPlayers + " players at once");
+    if (uuids.contains(null))
+      throw new BadRequestResponse("uuids cannot contain null");
+
+    if (request.getStatSets() == null)
+      statSetIds = null;
+    else {
+      statSetIds = new HashSet<>(request.getStatSets());
+
+      for (String id : statSetIds) {
+        if (PlayerDataAPI.get().getStatsSet(id) == null)
+          throw new BadRequestResponse(String.format("Stat set with id '%s' does not exist", id));
+      }
+    }
+
+    final PlayerDataCache cache = RestApiPlugin.getInstance().getPlayerDataCache();
+
+    ctx.future(() -> Util.fanOut(
+            uuids,
+            cache::getStats,
+            Configs.statsBatchMaxParallelFetches)
+        .thenAccept(stats -> {
+          if (statSetIds == null) {
+            ctx.json(stats);
+            return;
+          }
+
+          ctx.json(stats.stream()
+              .map(model -> model.withOnly(statSetIds))
+              .collect(Collectors.toList()));
+        }));
   }
 
 
@@ -58,7 +134,8 @@ public class PlayersStatsController {
           @OpenApiParam(name = "uuid", type = String.class, description = "The UUID of the player")
       },
       queryParams = {
-          @OpenApiParam(name = "statSets", type = String[].class, description = "The ids of the stats ranks to get. Don't add too many, this can get heavy on the database.")
+          @OpenApiParam(name = "statSets", type = String[].class, example = "bedwars:wins,bedwars:wl",
+              description = "The ids (, is the seperator) of the stats ranks to get. Don't add too many, this can get heavy on the database.")
       },
       responses = {
           @OpenApiResponse(status = "200", content = @OpenApiContent(from = PlayerLeaderboardPositionsModel.class)),
@@ -70,25 +147,20 @@ public class PlayersStatsController {
   )
   public static void getOneLeaderboard(Context ctx) {
     final UUID uuid = validUUID(ctx);
-    final String[] statSetNames = ctx.queryParamAsClass("statSets", String[].class)
-        .check(s -> s != null, "statSets query param must be present")
-        .check(s -> s.length == 0, "statSets cannot be empty")
-        .get();
-    final PlayerStatSet[] statSets = new PlayerStatSet[statSetNames.length];
-    final Map<String, Integer> positions = new HashMap<>();
+    final List<PlayerStatSet> statSets = validStatSets(ctx);
 
-    for (int i = 0; i < statSetNames.length; i++) {
-      if ((statSets[i] = PlayerDataAPI.get().getStatsSet(statSetNames[i])) == null)
-        throw new BadRequestResponse(String.format("Stat set with id '%s' does not exist", statSetNames[i]));
-    }
+    ctx.future(() -> Util.fanOut(
+            statSets,
+            set -> Util.<Integer>getFuture(c -> PlayerDataAPI.get().fetchLeaderboardPosition(uuid, set, c), StorageEndpoint.LEADERBOARD),
+            Configs.leaderboardMaxParallelFetches)
+        .thenAccept(results -> {
+          final Map<String, Integer> positions = new HashMap<>();
 
-    for (PlayerStatSet set : statSets) {
-      positions.put(
-          set.getId(),
-          Util.getAwait(c -> PlayerDataAPI.get().fetchLeaderboardPosition(uuid, set, c)));
-    }
+          for (int i = 0; i < statSets.size(); i++)
+            positions.put(statSets.get(i).getId(), results.get(i));
 
-    ctx.json(new PlayerLeaderboardPositionsModel(uuid, positions));
+          ctx.json(new PlayerLeaderboardPositionsModel(uuid, positions));
+        }));
   }
 
 
@@ -103,9 +175,12 @@ public class PlayersStatsController {
       methods = {HttpMethod.GET}
   )
   public static void getAllSets(Context ctx) {
-    ctx.json(PlayerDataAPI.get().getRegisteredStatSets().stream()
+    final List<PlayerStatSetModel> models = PlayerDataAPI.get().getRegisteredStatSets().stream()
         .map(PlayerStatSetModel::from)
-        .collect(Collectors.toList()));
+        .collect(Collectors.toList());
+
+    // only serialize (and compress) it again if a set has been (un-)registered
+    (allSetsJson = PrebuiltJson.reuseIfEqual(allSetsJson, models)).write(ctx);
   }
 
   @OpenApi(
@@ -135,7 +210,8 @@ public class PlayersStatsController {
 
   @OpenApi(
       summary = "Get the players that are within a certain rank range",
-      description = "Some entries may be missing in the result, this means that there is no player with that rank.",
+      description = "Some entries may be missing in the result, this means that there is no player with that rank. "
+          + "Use /players/stats-leaderboard/pages to walk through big ranges.",
       operationId = "getPlayersLeaderboard",
       tags = "Player Stats",
       queryParams = {
@@ -152,11 +228,8 @@ public class PlayersStatsController {
       path = "/players/stats-leaderboard",
       methods = {HttpMethod.GET}
   )
-  public static void getLeaderboard(Context ctx) {
-    final String[] statSetNames = ctx.queryParamAsClass("statSets", String.class)
-        .check(s -> s != null, "statSets query param must be present")
-        .check(s -> !s.isEmpty(), "statSets cannot be empty")
-        .get().split(",");
+  public static void getLeaderboard(Context ctx) throws Exception {
+    final List<PlayerStatSet> statSets = validStatSets(ctx);
     final int minPos = ctx.queryParamAsClass("minPos", Integer.class)
         .check(s -> s != null, "minPos query param must be present")
         .check(i -> i >= 1, "minPos must be greater than 1")
@@ -165,40 +238,129 @@ public class PlayersStatsController {
         .check(s -> s != null, "maxPos query param must be present")
         .check(i -> i >= minPos, "maxPos must be greater than or equal to minPos")
         .get();
-    final PlayerStatSet[] statSets = new PlayerStatSet[statSetNames.length];
-    final Map<UUID, PlayerFullLeaderboardPositionsModel> players = new HashMap<>();
 
-    for (int i = 0; i < statSetNames.length; i++) {
-      if ((statSets[i] = PlayerDataAPI.get().getStatsSet(statSetNames[i])) == null)
-        throw new BadRequestResponse(String.format("Stat set with id '%s' does not exist", statSetNames[i]));
+    final LeaderboardCache cache = RestApiPlugin.getInstance().getLeaderboardCache();
+    final int ranks = maxPos - minPos + 1;
+
+    // large ranges of a single stat set are fetched and written chunk by chunk, so that only one chunk is held at a time.
+    // this happens on the request's thread on purpose: it's the client that dictates how fast the chunks are being written
+    if (Configs.leaderboardStreamMinRanks > 0 && ranks >= Configs.leaderboardStreamMinRanks) {
+      // the entries of multiple stat sets have to be merged, which requires all of them at once
+      if (statSets.size() > 1)
+        throw new BadRequestResponse("Ranges of " + Configs.leaderboardStreamMinRanks + " or more ranks are only supported for a single stat set. Use /players/stats-leaderboard/pages to walk through multiple ones");
+
+      ctx.writeJsonStream(LeaderboardStream.stream(ctx, cache, statSets.get(0), minPos, maxPos, Configs.leaderboardStreamMinRanks));
+      return;
     }
 
-    for (PlayerStatSet set : statSets) {
-      final LeaderboardFetchResult res = Util.getAwait(c -> PlayerDataAPI.get().fetchLeaderboard(set, minPos, maxPos, c));
-
-      for (int i = minPos; i <= maxPos; i++) {
-        final PlayerStats stats = res.getStatsAtRank(i);
-        final PlayerProperties properties = res.getPropertiesAtRank(i);
-
-        if (stats == null || properties == null)
-          continue;
-
-        players.computeIfAbsent(
-                stats.getPlayerUUID(),
-                g0 -> new PlayerFullLeaderboardPositionsModel(
-                    stats.getPlayerUUID(),
-                    new HashMap<>(),
-                    PlayerStatsModel.from(stats),
-                    PlayerPropertiesModel.from(properties)
-                ))
-            .getLeaderboardPositions().put(set.getId(), i);
+    // everything is being kept in memory until it's written
+    if (ranks > Configs.leaderboardMaxRanks)
+      throw new BadRequestResponse("The range may not span more than " + Configs.leaderboardMaxRanks + " ranks. Use /players/stats-leaderboard/pages to walk through larger ones");
+
+    ctx.future(() -> Util.fanOut(
+            statSets,
+            set -> cache.fetch(set, minPos, maxPos),
+            Configs.leaderboardMaxParallelFetches)
+        .thenAccept(results -> ctx.json(LeaderboardPage.merge(results))));
+  }
+
+
+  @OpenApi(
+      summary = "Walk through the players of the leaderboard in pages",
+      description = "The first request creates a snapshot of the leaderboard, which the cursors of the following pages refer to. "
+          + "Pages that have been fetched within a snapshot stay the same until it expires, after which the walk has to be started over. "
+          + "Only pass the cursor query param for the following pages, the other ones are contained within it.",
+      operationId = "getPlayersLeaderboardPage",
+      tags = "Player Stats",
+      queryParams = {
+          @OpenApiParam(name = "statSets", type = String[].class, example = "bedwars:wins,bedwars:wl",
+              description = "The ids (, is the seperator) of the stats ranks to get. Don't add too many, this can get heavy on the database."),
+          @OpenApiParam(name = "minPos", type = Integer.class, description = "The position at which the first page starts. 1 by default."),
+          @OpenApiParam(name = "limit", type = Integer.class, description = "The amount of positions per page. The server may enforce a lower max."),
+          @OpenApiParam(name = "cursor", type = String.class, description = "The nextCursor of the previous page.")
+      },
+      responses = {
+          @OpenApiResponse(status = "200", content = @OpenApiContent(from = PlayerLeaderboardPageModel.class)),
+          @OpenApiResponse(status = "400", content = {@OpenApiContent(from = ErrorResponse.class)}),
+          @OpenApiResponse(status = "410", content = {@OpenApiContent(from = ErrorResponse.class)},
+              description = "The snapshot of the cursor has expired")
+      },
+      path = "/players/stats-leaderboard/pages",
+      methods = {HttpMethod.GET}
+  )
+  public static void getLeaderboardPage(Context ctx) {
+    final LeaderboardCache cache = RestApiPlugin.getInstance().getLeaderboardCache();
+    final String cursor = ctx.queryParam("cursor");
+    final LeaderboardSnapshot snapshot;
+    final int minPos;
+
+    if (cursor != null) {
+      final String[] fields = Pagination.decodeCursor(cursor, "leaderboard", 2);
+
+      try {
+        minPos = Integer.parseInt(fields[1]);
+      } catch (NumberFormatException e) {
+        throw new BadRequestResponse("cursor is invalid");
       }
+
+      snapshot = cache.getSnapshot(fields[0]);
+
+      if (snapshot == null)
+        throw new GoneResponse("The leaderboard snapshot of the cursor has expired. Start over without a cursor");
+
+      // we only ever hand out cursors that point to the start of a page
+      if (!snapshot.isPageStart(minPos))
+        throw new BadRequestResponse("cursor is invalid");
+    } else {
+      final List<PlayerStatSet> statSets = validStatSets(ctx);
+      final int limit = Pagination.validLimit(ctx);
+
+      minPos = ctx.queryParamAsClass("minPos", Integer.class)
+          .check(i -> i >= 1, "minPos must be greater than 1")
+          .check(i -> i <= Integer.MAX_VALUE - limit + 1, "minPos is too large")
+          .getOrDefault(1);
+      snapshot = cache.createSnapshot(statSets, minPos, limit);
     }
 
-    ctx.json(players.values());
+    ctx.future(() -> snapshot.getPage(cache, minPos)
+        .thenAccept(page -> {
+          final String nextCursor = page.isHasNext()
+              ? Pagination.encodeCursor("leaderboard", snapshot.getId(), String.valueOf(page.getMaxPos() + 1))
+              : null;
+
+          // the page won't change anymore for as long as the snapshot exists
+          if (cursor != null)
+            ctx.header(Header.CACHE_CONTROL, "private, max-age=" + Math.max(0, (snapshot.getExpiresAt() - System.currentTimeMillis()) / 1000));
+
+          ctx.json(new PlayerLeaderboardPageModel(
+              page.getMinPos(),
+              page.getMaxPos(),
+              page.getPlayers(),
+              nextCursor,
+              Pagination.writeNextLink(ctx, nextCursor)));
+        }));
   }
 
 
+  private static List<PlayerStatSet> validStatSets(Context ctx) {
+    final String[] statSetNames = ctx.queryParamAsClass("statSets", String.class)
+        .check(s -> s != null, "statSets query param must be present")
+        .check(s -> !s.isEmpty(), "statSets cannot be empty")
+        .get().split(",");
+    final List<PlayerStatSet> statSets = new ArrayList<>(statSetNames.length);
+
+    for (String name : statSetNames) {
+      final PlayerStatSet set = PlayerDataAPI.get().getStatsSet(name);
+
+      if (set == null)
+        throw new BadRequestResponse(String.format("Stat set with id '%s' does not exist", name));
+
+      statSets.add(set);
+    }
+
+    return statSets;
+  }
+
   private static UUID validUUID(Context ctx) {
     final String raw = ctx.pathParamAsClass("uuid", String.class)
         .check(s -> !s.isEmpty(), "restId cannot be empty")
@@ -1,6 +1,8 @@
 package de.marcely.bedwars.restapi.controller;
 
-import de.marcely.bedwars.api.player.PlayerDataAPI;
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import de.marcely.bedwars.restapi.cache.PlayerDataCache;
 import de.marcely.bedwars.restapi.model.ErrorResponse;
 import de.marcely.bedwars.restapi.model.player.PlayerUUIDModel;
 import de.marcely.bedwars.restapi.util.Util;
@@ -14,7 +16,6 @@ import io.javalin.openapi.OpenApiParam;
 import io.javalin.openapi.OpenApiRequestBody;
 import io.javalin.openapi.OpenApiResponse;
 import java.util.Arrays;
-import java.util.Optional;
 import java.util.UUID;
 
 public class PlayersUUIDController {
@@ -43,12 +44,14 @@ public class PlayersUUIDController {
         .check(s -> s.length() <= 16, "name must be shorter than 16 characters")
         .check(s -> s.chars().allMatch(c -> c >= 33 && c <= 126), "name contains invalid characters")
         .get();
-    final Optional<UUID> uuid = Util.getAwait(c -> PlayerDataAPI.get().getUUIDByName(name, c));
 
-    if (uuid.isEmpty())
-      throw new NotFoundResponse("no player with that name found");
+    ctx.future(() -> RestApiPlugin.getInstance().getPlayerDataCache().getUUIDByName(name)
+        .thenAccept(uuid -> {
+          if (uuid.isEmpty())
+            throw new NotFoundResponse("no player with that name found");
 
-    ctx.json(uuid.get());
+          ctx.json(uuid.get());
+        }));
   }
 
 
@@ -56,7 +59,8 @@ public class PlayersUUIDController {
       summary = "Get the uuid of multiple players by their name",
       description = "Only works for players that joined the server at least once. "
           + " Also works for players that aren't online."
-          + " The name look-up is case-insensitive.",
+          + " The name look-up is case-insensitive."
+          + " Prefer POST, as not all clients support sending a body with GET requests.",
       operationId = "getManyPlayerUUIDByName",
       tags = "Players",
       requestBody = @OpenApiRequestBody(
@@ -70,13 +74,13 @@ public class PlayersUUIDController {
           @OpenApiResponse(status = "400", content = {@OpenApiContent(from = ErrorResponse.class)})
       },
       path = "/players/uuid",
-      methods = {HttpMethod.GET}
+      methods = {HttpMethod.GET, HttpMethod.POST}
   )
   public static void getManyByName(Context ctx) {
     final String[] names = ctx.bodyAsClass(String[].class);
 
-    if (names.length > 10)
-      throw new BadRequestResponse("Cannot look up more than 10 names at once");
+    if (names.length > Configs.uuidLookupMaxNames)
+      throw new BadRequestResponse("Cannot look up more than " + Configs.uuidLookupMaxNames + " names at once");
 
     // validate names
     for (String name : names) {
@@ -89,14 +93,19 @@ public class PlayersUUIDController {
     }
 
     // fetch them
-    final PlayerUUIDModel[] models = Arrays.stream(names)
-        .map(name -> {
-          final Optional<UUID> uuid = Util.getAwait(c -> PlayerDataAPI.get().getUUIDByName(name, c));
+    final PlayerDataCache cache = RestApiPlugin.getInstance().getPlayerDataCache();
+
+    ctx.future(() -> Util.fanOut(
+            Arrays.asList(names),
+            cache::getUUIDByName,
+            Configs.uuidLookupMaxParallelFetches)
+        .thenAccept(uuids -> {
+          final PlayerUUIDModel[] models = new PlayerUUIDModel[names.length];
 
-          return new PlayerUUIDModel(name, uuid.orElse(null));
-        })
-        .toArray(PlayerUUIDModel[]::new);
+          for (int i = 0; i < names.length; i++)
+            models[i] = new PlayerUUIDModel(names[i], uuids.get(i).orElse(null));
 
-    ctx.json(models);
+          ctx.json(models);
+        }));
   }
 }
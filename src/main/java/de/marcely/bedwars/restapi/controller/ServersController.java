@@ -1,16 +1,16 @@
 package de.marcely.bedwars.restapi.controller;
 
-import de.marcely.bedwars.api.remote.RemoteAPI;
 import de.marcely.bedwars.api.remote.RemoteServer;
+import de.marcely.bedwars.restapi.RestApiPlugin;
 import de.marcely.bedwars.restapi.model.ErrorResponse;
 import de.marcely.bedwars.restapi.model.misc.ServerModel;
+import de.marcely.bedwars.restapi.snapshot.RemoteSnapshot;
 import io.javalin.http.Context;
 import io.javalin.http.NotFoundResponse;
 import io.javalin.openapi.HttpMethod;
 import io.javalin.openapi.OpenApi;
 import io.javalin.openapi.OpenApiContent;
 import io.javalin.openapi.OpenApiResponse;
-import java.util.Optional;
 
 public class ServersController {
 
@@ -25,7 +25,7 @@ public class ServersController {
       methods = {HttpMethod.GET}
   )
   public static void getAll(Context ctx) {
-    ctx.json(ServerModel.from(RemoteAPI.get().getServers()));
+    RestApiPlugin.getInstance().getRemoteSnapshots().get().getServersJson().write(ctx);
   }
 
 
@@ -43,14 +43,17 @@ public class ServersController {
   )
   public static void getOne(Context ctx) {
     final String channel = validChannelName(ctx);
-    final Optional<? extends RemoteServer> server = RemoteAPI.get().getServers().stream()
-        .filter(s -> s.getBungeeChannelName().equals(channel))
-        .findAny();
+    // the index is always up to date, unlike the snapshot that may still contain unregistered servers
+    final RemoteServer server = RestApiPlugin.getInstance().getRemoteIndex().getServerByChannelName(channel);
 
-    if (server.isEmpty())
+    if (server == null)
       throw new NotFoundResponse("No server under the given channelName found");
 
-    ctx.json(ServerModel.from(server.get()));
+    final RemoteSnapshot snapshot = RestApiPlugin.getInstance().getRemoteSnapshots().getIfMaintained();
+    final ServerModel model = snapshot != null ? snapshot.getServersByChannelName().get(channel) : null;
+
+    // it might have been registered after the snapshot, or there is none
+    ctx.json(model != null ? model : ServerModel.from(server));
   }
 
 
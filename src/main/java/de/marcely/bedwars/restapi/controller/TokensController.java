@@ -0,0 +1,137 @@
+package de.marcely.bedwars.restapi.controller;
+
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import de.marcely.bedwars.restapi.auth.ApiToken;
+import de.marcely.bedwars.restapi.auth.ApiTokens;
+import de.marcely.bedwars.restapi.auth.AuthController;
+import de.marcely.bedwars.restapi.auth.Permission;
+import de.marcely.bedwars.restapi.auth.Principal;
+import de.marcely.bedwars.restapi.model.ErrorResponse;
+import de.marcely.bedwars.restapi.model.auth.ApiTokenCreateRequestModel;
+import de.marcely.bedwars.restapi.model.auth.ApiTokenModel;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.http.HttpStatus;
+import io.javalin.http.NotFoundResponse;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiContent;
+import io.javalin.openapi.OpenApiParam;
+import io.javalin.openapi.OpenApiRequestBody;
+import io.javalin.openapi.OpenApiResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class TokensController {
+
+  private static final long MAX_EXPIRES_IN_SECONDS = 10L * 365 * 24 * 60 * 60;
+
+  @OpenApi(
+      summary = "Get all issued API tokens",
+      operationId = "getAllTokens",
+      tags = "Tokens",
+      responses = {
+          @OpenApiResponse(status = "200", content = @OpenApiContent(from = ApiTokenModel[].class))
+      },
+      path = "/tokens",
+      methods = {HttpMethod.GET}
+  )
+  public static void getAll(Context ctx) {
+    ctx.json(getTokens().getAll().stream()
+        .map(ApiTokenModel::from)
+        .collect(Collectors.toList()));
+  }
+
+  @OpenApi(
+      summary = "Issue a new API token",
+      description = "The returned secret must be passed using the \"Authorization: Bearer <secret>\" header. "
+          + "It is only included in this response.",
+      operationId = "createToken",
+      tags = "Tokens",
+      requestBody = @OpenApiRequestBody(
+          content = @OpenApiContent(from = ApiTokenCreateRequestModel.class),
+          required = true
+      ),
+      responses = {
+          @OpenApiResponse(status = "201", content = @OpenApiContent(from = ApiTokenModel.class)),
+          @OpenApiResponse(status = "400", content = {@OpenApiContent(from = ErrorResponse.class)})
+      },
+      path = "/tokens",
+      methods = {HttpMethod.POST}
+  )
+  public static void create(Context ctx) {
+    final ApiTokenCreateRequestModel request = ctx.bodyAsClass(ApiTokenCreateRequestModel.class);
+
+    if (request.getPermissions() == null || request.getPermissions().isEmpty())
+      throw new BadRequestResponse("permissions must contain at least one entry");
+    if (request.getExpiresInSeconds() != null && request.getExpiresInSeconds() <= 0)
+      throw new BadRequestResponse("expiresInSeconds must be greater than 0");
+    if (request.getExpiresInSeconds() != null && request.getExpiresInSeconds() > MAX_EXPIRES_IN_SECONDS)
+      throw new BadRequestResponse("expiresInSeconds must not be greater than " + MAX_EXPIRES_IN_SECONDS);
+
+    // it may only grant what it has itself
+    final Principal issuer = AuthController.getAuthenticated(ctx);
+    final Set<Permission> registered = RestApiPlugin.getInstance().getRegisteredPermissions();
+    final List<Permission> permissions = new ArrayList<>(request.getPermissions().size());
+
+    for (String value : request.getPermissions()) {
+      final Permission permission = new Permission(value);
+
+      if (!registered.contains(permission))
+        throw new BadRequestResponse("Unknown permission " + value);
+      if (issuer == null || !issuer.getPermissions().contains(permission))
+        throw new BadRequestResponse("You may not grant " + value + " as you don't have it yourself");
+
+      permissions.add(permission);
+    }
+
+    // and it may not outlive the issuing token
+    final Long issuerExpiresAt = issuer instanceof ApiToken ? ((ApiToken) issuer).getExpiresAt() : null;
+    Long expiresAt = request.getExpiresInSeconds() != null ? System.currentTimeMillis() + request.getExpiresInSeconds() * 1000L : null;
+
+    if (issuerExpiresAt != null) {
+      if (expiresAt == null)
+        throw new BadRequestResponse("expiresInSeconds must be present, as your own token expires as well");
+
+      expiresAt = Math.min(expiresAt, issuerExpiresAt);
+    }
+
+    final ApiTokens.Issued issued = getTokens().issue(
+        request.getName() != null ? request.getName() : "",
+        permissions,
+        expiresAt);
+
+    ctx.status(HttpStatus.CREATED);
+    ctx.json(ApiTokenModel.from(issued.getToken(), issued.getSecret()));
+  }
+
+  @OpenApi(
+      summary = "Revoke an API token",
+      operationId = "deleteToken",
+      tags = "Tokens",
+      pathParams = {
+          @OpenApiParam(name = "id", type = String.class, description = "The id of the token")
+      },
+      responses = {
+          @OpenApiResponse(status = "204"),
+          @OpenApiResponse(status = "404", content = {@OpenApiContent(from = ErrorResponse.class)})
+      },
+      path = "/tokens/{id}",
+      methods = {HttpMethod.DELETE}
+  )
+  public static void delete(Context ctx) {
+    final String id = ctx.pathParam("id");
+
+    if (!getTokens().revoke(id))
+      throw new NotFoundResponse("No token with the given id found");
+
+    ctx.status(HttpStatus.NO_CONTENT);
+  }
+
+
+  private static ApiTokens getTokens() {
+    return RestApiPlugin.getInstance().getAuthController().getTokens();
+  }
+}
@@ -0,0 +1,51 @@
+package de.marcely.bedwars.restapi.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+  // upper bounds in seconds
+  static final double[] BOUNDS = { 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10 };
+  private static final long[] BOUNDS_NANOS = new long[BOUNDS.length];
+
+  static {
+    for (int i = 0; i < BOUNDS.length; i++)
+      BOUNDS_NANOS[i] = (long) (BOUNDS[i] * 1_000_000_000D);
+  }
+
+  private final LongAdder[] buckets = new LongAdder[BOUNDS.length + 1]; // last one is +Inf
+  private final LongAdder sumNanos = new LongAdder();
+
+  public LatencyHistogram() {
+    for (int i = 0; i < this.buckets.length; i++)
+      this.buckets[i] = new LongAdder();
+  }
+
+  public void observe(long nanos) {
+    int i = 0;
+
+    while (i < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[i])
+      i++;
+
+    this.buckets[i].increment();
+    this.sumNanos.add(nanos);
+  }
+
+  public void observeSince(long startNanos) {
+    observe(System.nanoTime() - startNanos);
+  }
+
+  // not cumulative, unlike in the exposition format
+  long[] getBucketCounts() {
+    final long[] counts = new long[this.buckets.length];
+
+    for (int i = 0; i < counts.length; i++)
+      counts[i] = this.buckets[i].sum();
+
+    return counts;
+  }
+
+  double getSumSeconds() {
+    return this.sumNanos.sum() / 1_000_000_000D;
+  }
+}
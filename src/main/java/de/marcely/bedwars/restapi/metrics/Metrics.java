@@ -0,0 +1,137 @@
+package de.marcely.bedwars.restapi.metrics;
+
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import de.marcely.bedwars.restapi.cache.ExpiringCache;
+import de.marcely.bedwars.restapi.util.StorageEndpoint;
+import io.javalin.http.Context;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class Metrics {
+
+  private static final String START_ATTRIBUTE = "restapi.metrics.start";
+  private static final String UNMATCHED_ROUTE = "unmatched";
+
+  private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+  public void handleBefore(Context ctx) {
+    if (!Configs.metricsEnabled)
+      return;
+
+    ctx.attribute(START_ATTRIBUTE, System.nanoTime());
+    getRoute(routeOf(ctx)).getInFlight().increment();
+  }
+
+  // called for every request, also for those that failed or didn't match any route
+  public void handleCompleted(Context ctx, Float executionTimeMs) {
+    if (!Configs.metricsEnabled)
+      return;
+
+    final Long start = ctx.attribute(START_ATTRIBUTE);
+
+    if (start == null) {
+      getRoute(UNMATCHED_ROUTE).record(ctx.statusCode(), TimeUnit.MICROSECONDS.toNanos((long) (executionTimeMs * 1000)));
+      return;
+    }
+
+    final RouteMetrics route = getRoute(routeOf(ctx));
+
+    route.getInFlight().decrement();
+    route.record(ctx.statusCode(), System.nanoTime() - start);
+  }
+
+  private RouteMetrics getRoute(String route) {
+    return this.routes.computeIfAbsent(route, g0 -> new RouteMetrics());
+  }
+
+  private static String routeOf(Context ctx) {
+    return ctx.method().name() + " " + ctx.endpointHandlerPath();
+  }
+
+  public String render(RestApiPlugin plugin) {
+    final MetricsWriter out = new MetricsWriter();
+
+    // routes
+    out.type("restapi_requests_total", "counter");
+    this.routes.forEach((route, metrics) -> {
+      metrics.getRequestsByStatus().forEach((status, count) -> {
+        out.sample("restapi_requests_total", count.sum(), "route", route, "status", String.valueOf(status));
+      });
+    });
+
+    out.type("restapi_requests_in_flight", "gauge");
+    this.routes.forEach((route, metrics) -> {
+      out.sample("restapi_requests_in_flight", metrics.getInFlight().sum(), "route", route);
+    });
+
+    out.type("restapi_request_duration_seconds", "histogram");
+    this.routes.forEach((route, metrics) -> {
+      out.histogram("restapi_request_duration_seconds", metrics.getDurations(), "route", route);
+    });
+
+    out.type("restapi_auth_duration_seconds", "histogram");
+    out.histogram("restapi_auth_duration_seconds", plugin.getAuthController().getDurations());
+
+    // storage
+    out.type("restapi_storage_wait_seconds", "histogram");
+    for (StorageEndpoint endpoint : StorageEndpoint.values())
+      out.histogram("restapi_storage_wait_seconds", endpoint.getWaitDurations(), "endpoint", endpoint.getId());
+
+    out.type("restapi_storage_timeouts_total", "counter");
+    for (StorageEndpoint endpoint : StorageEndpoint.values())
+      out.sample("restapi_storage_timeouts_total", endpoint.getTimeouts().sum(), "endpoint", endpoint.getId());
+
+    out.type("restapi_storage_errors_total", "counter");
+    for (StorageEndpoint endpoint : StorageEndpoint.values())
+      out.sample("restapi_storage_errors_total", endpoint.getErrors().sum(), "endpoint", endpoint.getId());
+
+    out.type("restapi_bulkhead_active", "gauge");
+    for (StorageEndpoint endpoint : StorageEndpoint.values())
+      out.sample("restapi_bulkhead_active", endpoint.getBulkhead().getActive(), "endpoint", endpoint.getId());
+
+    out.type("restapi_bulkhead_queued", "gauge");
+    for (StorageEndpoint endpoint : StorageEndpoint.values())
+      out.sample("restapi_bulkhead_queued", endpoint.getBulkhead().getQueued(), "endpoint", endpoint.getId());
+
+    out.type("restapi_bulkhead_rejected_total", "counter");
+    for (StorageEndpoint endpoint : StorageEndpoint.values())
+      out.sample("restapi_bulkhead_rejected_total", endpoint.getBulkhead().getRejected().sum(), "endpoint", endpoint.getId());
+
+    // caches
+    final Map<String, ExpiringCache<?, ?>> caches = new LinkedHashMap<>();
+
+    caches.put("leaderboard", plugin.getLeaderboardCache().getPages());
+    caches.put("stats", plugin.getPlayerDataCache().getStats());
+    caches.put("properties", plugin.getPlayerDataCache().getProperties());
+    caches.put("achievements", plugin.getPlayerDataCache().getAchievements());
+    caches.put("uuid", plugin.getPlayerDataCache().getUuidsByName());
+    caches.put("auth", plugin.getAuthController().getVerifiedHeaders());
+
+    out.type("restapi_cache_hits_total", "counter");
+    caches.forEach((name, cache) -> out.sample("restapi_cache_hits_total", cache.getHits().sum(), "cache", name));
+
+    out.type("restapi_cache_misses_total", "counter");
+    caches.forEach((name, cache) -> out.sample("restapi_cache_misses_total", cache.getMisses().sum(), "cache", name));
+
+    out.type("restapi_cache_entries", "gauge");
+    caches.forEach((name, cache) -> out.sample("restapi_cache_entries", cache.size(), "cache", name));
+
+    // misc
+    out.type("restapi_rate_limit_rejected_total", "counter");
+    out.sample("restapi_rate_limit_rejected_total", plugin.getRateLimiter().getRejected().sum());
+
+    out.type("restapi_event_stream_subscribers", "gauge");
+    out.sample("restapi_event_stream_subscribers", plugin.getEventStream().getSubscriberCount());
+
+    out.type("restapi_event_stream_events_total", "counter");
+    out.sample("restapi_event_stream_events_total", plugin.getEventStream().getPublished().sum());
+
+    out.type("restapi_event_stream_dropped_total", "counter");
+    out.sample("restapi_event_stream_dropped_total", plugin.getEventStream().getDropped().sum());
+
+    return out.toString();
+  }
+}
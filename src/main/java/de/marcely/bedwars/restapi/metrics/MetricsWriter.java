@@ -0,0 +1,77 @@
+package de.marcely.bedwars.restapi.metrics;
+
+// writes the prometheus text exposition format
+class MetricsWriter {
+
+  private final StringBuilder builder = new StringBuilder(8192);
+
+  void type(String name, String type) {
+    this.builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  void sample(String name, double value, String... labels) {
+    this.builder.append(name);
+    appendLabels(labels, null);
+    this.builder.append(' ').append(format(value)).append('\n');
+  }
+
+  void histogram(String name, LatencyHistogram histogram, String... labels) {
+    final long[] counts = histogram.getBucketCounts();
+    long cumulative = 0;
+
+    for (int i = 0; i < counts.length; i++) {
+      cumulative += counts[i];
+
+      this.builder.append(name).append("_bucket");
+      appendLabels(labels, i < LatencyHistogram.BOUNDS.length ? format(LatencyHistogram.BOUNDS[i]) : "+Inf");
+      this.builder.append(' ').append(cumulative).append('\n');
+    }
+
+    this.builder.append(name).append("_sum");
+    appendLabels(labels, null);
+    this.builder.append(' ').append(format(histogram.getSumSeconds())).append('\n');
+
+    this.builder.append(name).append("_count");
+    appendLabels(labels, null);
+    this.builder.append(' ').append(cumulative).append('\n');
+  }
+
+  private void appendLabels(String[] labels, String le) {
+    if (labels.length == 0 && le == null)
+      return;
+
+    this.builder.append('{');
+
+    for (int i = 0; i < labels.length; i += 2) {
+      if (i > 0)
+        this.builder.append(',');
+
+      this.builder.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+    }
+
+    if (le != null) {
+      if (labels.length > 0)
+        this.builder.append(',');
+
+      this.builder.append("le=\"").append(le).append('"');
+    }
+
+    this.builder.append('}');
+  }
+
+  private static String format(double value) {
+    if (value == Math.rint(value) && !Double.isInfinite(value))
+      return String.valueOf((long) value);
+
+    return String.valueOf(value);
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  @Override
+  public String toString() {
+    return this.builder.toString();
+  }
+}
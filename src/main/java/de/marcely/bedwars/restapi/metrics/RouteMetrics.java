@@ -0,0 +1,19 @@
+package de.marcely.bedwars.restapi.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+@Getter
+public class RouteMetrics {
+
+  private final Map<Integer, LongAdder> requestsByStatus = new ConcurrentHashMap<>();
+  private final LatencyHistogram durations = new LatencyHistogram();
+  private final LongAdder inFlight = new LongAdder();
+
+  public void record(int status, long nanos) {
+    this.requestsByStatus.computeIfAbsent(status, g0 -> new LongAdder()).increment();
+    this.durations.observe(nanos);
+  }
+}
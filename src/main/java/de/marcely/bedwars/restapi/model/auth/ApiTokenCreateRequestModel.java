@@ -0,0 +1,51 @@
+package de.marcely.bedwars.restapi.model.auth;
+
+import io.javalin.openapi.JsonSchema;
+import io.javalin.openapi.OpenApiDescription;
+import io.javalin.openapi.OpenApiExample;
+import io.javalin.openapi.OpenApiExampleProperty;
+import io.javalin.openapi.OpenApiNullable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonSchema
+public class ApiTokenCreateRequestModel {
+
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiExample("Discord Bot"),
+              @OpenApiDescription("A name that helps to recognize the token")
+          }))
+  private String name;
+
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiExample(
+                  objects = {
+                      @OpenApiExampleProperty("arenas.read"),
+                      @OpenApiExampleProperty("players.stats.read")
+                  }),
+              @OpenApiDescription("The permissions to grant. You may only grant the ones you have yourself")
+          }))
+  private List<String> permissions;
+
+  @Nullable
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiNullable,
+              @OpenApiExample("2592000"),
+              @OpenApiDescription("After how many seconds the token shall expire. Leave it out for it to never expire. "
+                  + "Required if the issuing token expires itself, which the new one may not outlive")
+          }))
+  private Long expiresInSeconds;
+}
@@ -0,0 +1,93 @@
+package de.marcely.bedwars.restapi.model.auth;
+
+import de.marcely.bedwars.restapi.auth.ApiToken;
+import de.marcely.bedwars.restapi.auth.Permission;
+import io.javalin.openapi.JsonSchema;
+import io.javalin.openapi.OpenApiDescription;
+import io.javalin.openapi.OpenApiExample;
+import io.javalin.openapi.OpenApiExampleProperty;
+import io.javalin.openapi.OpenApiNullable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+@Data
+@AllArgsConstructor
+@JsonSchema
+public class ApiTokenModel {
+
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiExample("b3JEx0Cw8e7A"),
+              @OpenApiDescription("The id of the token. Used to revoke it")
+          }))
+  private String id;
+
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiExample("Discord Bot"),
+              @OpenApiDescription("A name that helps to recognize the token")
+          }))
+  private String name;
+
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiExample(
+                  objects = {
+                      @OpenApiExampleProperty("arenas.read"),
+                      @OpenApiExampleProperty("players.stats.read")
+                  }),
+              @OpenApiDescription("The permissions that have been granted to the token")
+          }))
+  private String[] permissions;
+
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiExample("1700000000000"),
+              @OpenApiDescription("The time (epoch millis) at which the token has been issued")
+          }))
+  private long createdAt;
+
+  @Nullable
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiNullable,
+              @OpenApiExample("1710000000000"),
+              @OpenApiDescription("The time (epoch millis) at which the token expires. null if it never does")
+          }))
+  private Long expiresAt;
+
+  @Nullable
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiNullable,
+              @OpenApiExample("mbw_Xf3k0Bq1hS6Wc9Yd2LxR7uTz4Np8VmAe5GjKo1IyHs0"),
+              @OpenApiDescription("The secret to pass using the Authorization: Bearer header. "
+                  + "Only present in the response of its creation, as it isn't being stored")
+          }))
+  private String secret;
+
+
+  public static ApiTokenModel from(ApiToken token, @Nullable String secret) {
+    return new ApiTokenModel(
+        token.getId(),
+        token.getName(),
+        token.getPermissions().stream()
+            .map(Permission::getValue)
+            .toArray(String[]::new),
+        token.getCreatedAt(),
+        token.getExpiresAt(),
+        secret);
+  }
+
+  public static ApiTokenModel from(ApiToken token) {
+    return from(token, null);
+  }
+}
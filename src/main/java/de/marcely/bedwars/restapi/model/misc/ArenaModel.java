@@ -2,10 +2,10 @@ package de.marcely.bedwars.restapi.model.misc;
 
 import de.marcely.bedwars.api.arena.ArenaStatus;
 import de.marcely.bedwars.api.arena.Team;
-import de.marcely.bedwars.api.remote.RemoteAPI;
 import de.marcely.bedwars.api.remote.RemoteArena;
 import de.marcely.bedwars.api.remote.RemotePlayer;
 import de.marcely.bedwars.api.remote.RemoteServer;
+import de.marcely.bedwars.restapi.RestApiPlugin;
 import io.javalin.openapi.JsonSchema;
 import io.javalin.openapi.OpenApiDescription;
 import io.javalin.openapi.OpenApiExample;
@@ -15,7 +15,6 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -197,13 +196,11 @@ public class ArenaModel {
     if (parts.length != 2)
       throw new IllegalArgumentException("Invalid restId");
 
-    final Optional<? extends RemoteServer> server = RemoteAPI.get().getServers().stream()
-        .filter(s -> s.getBungeeChannelName().equals(parts[0]))
-        .findAny();
+    final RemoteServer server = RestApiPlugin.getInstance().getRemoteIndex().getServerByChannelName(parts[0]);
 
-    if (server.isEmpty())
+    if (server == null)
       return null;
 
-    return server.get().getArenaByExactRealName(parts[1]);
+    return server.getArenaByExactRealName(parts[1]);
   }
 }
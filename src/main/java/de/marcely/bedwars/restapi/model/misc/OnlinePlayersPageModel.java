@@ -0,0 +1,38 @@
+package de.marcely.bedwars.restapi.model.misc;
+
+import io.javalin.openapi.JsonSchema;
+import io.javalin.openapi.OpenApiDescription;
+import io.javalin.openapi.OpenApiExample;
+import io.javalin.openapi.OpenApiNullable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+@Data
+@AllArgsConstructor
+@JsonSchema
+public class OnlinePlayersPageModel {
+
+  @Getter(onMethod = @__({
+      @OpenApiDescription("The players of this page, ordered by their UUID.")
+  }))
+  private List<OnlinePlayerModel> players;
+
+  @Nullable
+  @Getter(onMethod = @__({
+      @OpenApiNullable,
+      @OpenApiExample("AQAGb25saW5lAw"),
+      @OpenApiDescription("Pass it as the cursor query param to get the next page. null if this is the last one.")
+  }))
+  private String nextCursor;
+
+  @Nullable
+  @Getter(onMethod = @__({
+      @OpenApiNullable,
+      @OpenApiExample("/players/online/pages?cursor=AQAGb25saW5lAw"),
+      @OpenApiDescription("The path to the next page. null if this is the last one.")
+  }))
+  private String next;
+}
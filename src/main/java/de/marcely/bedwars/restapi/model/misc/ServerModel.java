@@ -6,7 +6,12 @@ import de.marcely.bedwars.api.remote.RemoteServer;
 import io.javalin.openapi.JsonSchema;
 import io.javalin.openapi.OpenApiDescription;
 import io.javalin.openapi.OpenApiExample;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -74,6 +79,15 @@ public class ServerModel {
 
 
   public static ServerModel from(RemoteServer input) {
+    return from(
+        input,
+        RemoteAPI.get().getOnlinePlayers().stream()
+            .filter(p -> p.getServer().equals(input))
+            .map(RemotePlayer::getUniqueId)
+            .collect(Collectors.toList()));
+  }
+
+  public static ServerModel from(RemoteServer input, Collection<UUID> players) {
     return new ServerModel(
         input.getBungeeChannelName(),
         input.getPluginVersion(),
@@ -83,16 +97,22 @@ public class ServerModel {
         input.getArenas().stream()
             .map(ArenaModel::toRestId)
             .collect(Collectors.toList()),
-        RemoteAPI.get().getOnlinePlayers().stream()
-            .filter(p -> p.getServer().equals(input))
-            .map(RemotePlayer::getUniqueId)
-            .collect(Collectors.toList())
+        players
     );
   }
 
   public static Collection<ServerModel> from(Collection<? extends RemoteServer> input) {
+    final Map<RemoteServer, List<UUID>> playersByServer = new HashMap<>(input.size() * 2);
+
+    // one pass over all players instead of one per server
+    for (RemotePlayer player : RemoteAPI.get().getOnlinePlayers()) {
+      playersByServer
+          .computeIfAbsent(player.getServer(), g0 -> new ArrayList<>())
+          .add(player.getUniqueId());
+    }
+
     return input.stream()
-        .map(ServerModel::from)
+        .map(server -> from(server, playersByServer.getOrDefault(server, Collections.emptyList())))
         .collect(Collectors.toList());
   }
-}
\ No newline at end of file
+}
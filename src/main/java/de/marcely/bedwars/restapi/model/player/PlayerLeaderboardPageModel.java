@@ -0,0 +1,60 @@
+package de.marcely.bedwars.restapi.model.player;
+
+import io.javalin.openapi.JsonSchema;
+import io.javalin.openapi.OpenApiDescription;
+import io.javalin.openapi.OpenApiExample;
+import io.javalin.openapi.OpenApiNullable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+@Data
+@AllArgsConstructor
+@JsonSchema
+public class PlayerLeaderboardPageModel {
+
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiExample("1"),
+              @OpenApiDescription("The first position that is included in this page.")
+          }))
+  private int minPos;
+
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiExample("50"),
+              @OpenApiDescription("The last position that is included in this page.")
+          }))
+  private int maxPos;
+
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiDescription("The players that are within the positions of this page. Some positions may be missing, meaning that there is no player with that rank.")
+          }))
+  private List<PlayerFullLeaderboardPositionsModel> players;
+
+  @Nullable
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiNullable,
+              @OpenApiExample("AQALbGVhZGVyYm9hcmQC"),
+              @OpenApiDescription("Pass it as the cursor query param to get the next page. null if this is the last one.")
+          }))
+  private String nextCursor;
+
+  @Nullable
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiNullable,
+              @OpenApiExample("/players/stats-leaderboard/pages?cursor=AQALbGVhZGVyYm9hcmQC"),
+              @OpenApiDescription("The path to the next page. null if this is the last one.")
+          }))
+  private String next;
+}
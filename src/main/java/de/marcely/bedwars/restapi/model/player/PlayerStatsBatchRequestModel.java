@@ -0,0 +1,47 @@
+package de.marcely.bedwars.restapi.model.player;
+
+import io.javalin.openapi.JsonSchema;
+import io.javalin.openapi.OpenApiDescription;
+import io.javalin.openapi.OpenApiExample;
+import io.javalin.openapi.OpenApiExampleProperty;
+import io.javalin.openapi.OpenApiNullable;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonSchema
+public class PlayerStatsBatchRequestModel {
+
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiExample(
+                  objects = {
+                      @OpenApiExampleProperty("ffe3e36e-d406-4d7a-aeba-0eb6e02a0aba"),
+                      @OpenApiExampleProperty("069a79f4-44e9-4726-a5be-fca90e38aaf5")
+                  }),
+              @OpenApiDescription("The UUIDs of the players whose stats shall be fetched.")
+          }))
+  private List<UUID> uuids;
+
+  @Nullable
+  @Getter(
+      onMethod = @__(
+          {
+              @OpenApiNullable,
+              @OpenApiExample(
+                  objects = {
+                      @OpenApiExampleProperty("bedwars:wins"),
+                      @OpenApiExampleProperty("bedwars:kd")
+                  }),
+              @OpenApiDescription("The ids of the stat sets to include. Leave it out to include all of them.")
+          }))
+  private List<String> statSets;
+}
@@ -10,6 +10,7 @@ import io.javalin.openapi.OpenApiNullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
@@ -56,6 +57,15 @@ public class PlayerStatsModel {
     );
   }
 
+  public PlayerStatsModel withOnly(Collection<String> statSetIds) {
+    return new PlayerStatsModel(
+        this.playerUUID,
+        this.statSetValues.stream()
+            .filter(pair -> statSetIds.contains(pair.getStatSetId()))
+            .collect(Collectors.toList())
+    );
+  }
+
   @AllArgsConstructor
   @JsonSchema
   public static class StatsSetValuePair {
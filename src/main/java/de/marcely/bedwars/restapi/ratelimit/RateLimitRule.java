@@ -0,0 +1,11 @@
+package de.marcely.bedwars.restapi.ratelimit;
+
+import lombok.Data;
+
+@Data
+public class RateLimitRule {
+
+  private final String permission;
+  private final int burst;
+  private final double perSecond;
+}
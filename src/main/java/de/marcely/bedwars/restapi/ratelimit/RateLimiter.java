@@ -0,0 +1,73 @@
+package de.marcely.bedwars.restapi.ratelimit;
+
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.auth.AuthController;
+import de.marcely.bedwars.restapi.auth.Permission;
+import de.marcely.bedwars.restapi.auth.Principal;
+import io.javalin.http.Context;
+import io.javalin.http.Header;
+import io.javalin.http.TooManyRequestsResponse;
+import io.javalin.security.RouteRole;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+public class RateLimiter {
+
+  private static final int CLEANUP_THRESHOLD = 10_000;
+
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+  @Getter
+  private final LongAdder rejected = new LongAdder();
+
+  public void handle(Context ctx) {
+    if (!Configs.rateLimitEnabled || Configs.rateLimits.isEmpty())
+      return;
+
+    final Principal principal = AuthController.getAuthenticated(ctx);
+
+    if (principal == null)
+      return; // public route
+
+    for (RouteRole role : ctx.routeRoles()) {
+      if (!(role instanceof Permission))
+        continue;
+
+      final RateLimitRule rule = Configs.rateLimits.get(((Permission) role).getValue());
+
+      if (rule == null)
+        continue;
+
+      String key = principal.getIdentifier() + "|" + rule.getPermission();
+
+      if (Configs.rateLimitByIp)
+        key += "|" + ctx.ip();
+
+      if (this.buckets.size() >= CLEANUP_THRESHOLD)
+        cleanup();
+
+      final long wait = this.buckets
+          .computeIfAbsent(key, k -> new TokenBucket(rule.getBurst(), rule.getPerSecond()))
+          .tryAcquire();
+
+      if (wait > 0) {
+        this.rejected.increment();
+        ctx.header(Header.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999L))));
+
+        throw new TooManyRequestsResponse("Rate limit exceeded for " + rule.getPermission());
+      }
+    }
+  }
+
+  public void clear() {
+    this.buckets.clear();
+  }
+
+  private void cleanup() {
+    // full ones behave the same as new ones
+    this.buckets.values().removeIf(TokenBucket::isFull);
+  }
+}
@@ -0,0 +1,44 @@
+package de.marcely.bedwars.restapi.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// implemented as GCRA, which behaves identical to a token bucket but only needs a single CAS
+public class TokenBucket {
+
+  private final long interval; // nanos until a token is being refilled
+  private final long tolerance; // how far the theoretical arrival time may be ahead (= burst)
+  private final AtomicLong arrival; // theoretical arrival time of the next request
+
+  public TokenBucket(int burst, double perSecond) {
+    this.interval = (long) (1_000_000_000D / perSecond);
+    this.tolerance = this.interval * burst;
+    this.arrival = new AtomicLong(System.nanoTime());
+  }
+
+  // returns 0 if a token has been taken, otherwise the nanos until one is available
+  public long tryAcquire() {
+    final long now = System.nanoTime();
+
+    while (true) {
+      final long arrival = this.arrival.get();
+      final long next = Math.max(arrival, now) + this.interval;
+      final long wait = next - this.tolerance - now;
+
+      if (wait > 0)
+        return wait;
+      if (this.arrival.compareAndSet(arrival, next))
+        return 0;
+    }
+  }
+
+  // same as tryAcquire, but without taking the token
+  public long peek() {
+    final long now = System.nanoTime();
+
+    return Math.max(0, Math.max(this.arrival.get(), now) + this.interval - this.tolerance - now);
+  }
+
+  public boolean isFull() {
+    return this.arrival.get() - System.nanoTime() <= 0;
+  }
+}
@@ -0,0 +1,46 @@
+package de.marcely.bedwars.restapi.snapshot;
+
+import de.marcely.bedwars.api.event.remote.RemoteServerRegisterEvent;
+import de.marcely.bedwars.api.event.remote.RemoteServerUnregisterEvent;
+import de.marcely.bedwars.api.remote.RemoteAPI;
+import de.marcely.bedwars.api.remote.RemoteServer;
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.jetbrains.annotations.Nullable;
+
+// servers by their channel name. kept up to date by the (un)register events themselves,
+// so that it never answers with a server that is already gone or misses a new one.
+// arenas are looked up through their server, see ArenaModel.fromRestId
+public class RemoteIndex implements Listener {
+
+  private final Map<String, RemoteServer> serversByChannelName = new ConcurrentHashMap<>();
+
+  // on the main thread, as that's where the remote collections are being modified
+  public void start(RestApiPlugin plugin) {
+    Bukkit.getPluginManager().registerEvents(this, plugin);
+
+    for (RemoteServer server : RemoteAPI.get().getServers())
+      this.serversByChannelName.put(server.getBungeeChannelName(), server);
+  }
+
+  @Nullable
+  public RemoteServer getServerByChannelName(String channelName) {
+    return this.serversByChannelName.get(channelName);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onServerRegister(RemoteServerRegisterEvent event) {
+    this.serversByChannelName.put(event.getServer().getBungeeChannelName(), event.getServer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onServerUnregister(RemoteServerUnregisterEvent event) {
+    // only if it hasn't been replaced by a newer registration under the same name
+    this.serversByChannelName.remove(event.getServer().getBungeeChannelName(), event.getServer());
+  }
+}
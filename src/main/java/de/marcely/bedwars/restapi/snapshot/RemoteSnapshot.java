@@ -0,0 +1,139 @@
+package de.marcely.bedwars.restapi.snapshot;
+
+import de.marcely.bedwars.api.remote.RemoteAPI;
+import de.marcely.bedwars.restapi.model.misc.ArenaModel;
+import de.marcely.bedwars.restapi.model.misc.OnlinePlayerModel;
+import de.marcely.bedwars.restapi.model.misc.ServerModel;
+import de.marcely.bedwars.restapi.util.PrebuiltJson;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+@Getter
+public class RemoteSnapshot {
+
+  // same order as their string representation, unlike UUID.compareTo which compares signed
+  private static final Comparator<UUID> UUID_ORDER = Comparator
+      .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+      .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+  private final long createdAt = System.currentTimeMillis();
+
+  private final List<ArenaModel> arenas;
+  private final List<ServerModel> servers;
+  private final List<OnlinePlayerModel> players;
+
+  private final Map<String, ArenaModel> arenasByRestId;
+  private final Map<String, ServerModel> serversByChannelName;
+  private final Map<UUID, OnlinePlayerModel> playersByUUID;
+  private final Map<String, OnlinePlayerModel> playersByName;
+
+  private final PrebuiltJson arenasJson;
+  private final PrebuiltJson serversJson;
+  private final PrebuiltJson playersJson;
+
+  @Getter(AccessLevel.NONE)
+  private volatile List<OnlinePlayerModel> playersSortedByUUID;
+
+  private RemoteSnapshot(
+      @Nullable RemoteSnapshot previous,
+      Collection<ArenaModel> arenas,
+      Collection<ServerModel> servers,
+      Collection<OnlinePlayerModel> players) {
+
+    this.arenas = Collections.unmodifiableList(new ArrayList<>(arenas));
+    this.servers = Collections.unmodifiableList(new ArrayList<>(servers));
+    this.players = Collections.unmodifiableList(new ArrayList<>(players));
+
+    {
+      final Map<String, ArenaModel> map = new HashMap<>(this.arenas.size() * 2);
+
+      for (ArenaModel arena : this.arenas)
+        map.put(arena.getRestId(), arena);
+
+      this.arenasByRestId = Collections.unmodifiableMap(map);
+    }
+
+    {
+      final Map<String, ServerModel> map = new HashMap<>(this.servers.size() * 2);
+
+      for (ServerModel server : this.servers)
+        map.put(server.getChannelName(), server);
+
+      this.serversByChannelName = Collections.unmodifiableMap(map);
+    }
+
+    {
+      final Map<UUID, OnlinePlayerModel> byUUID = new HashMap<>(this.players.size() * 2);
+      final Map<String, OnlinePlayerModel> byName = new HashMap<>(this.players.size() * 2);
+
+      for (OnlinePlayerModel player : this.players) {
+        byUUID.put(player.getUuid(), player);
+        byName.put(player.getName().toLowerCase(Locale.ROOT), player);
+      }
+
+      this.playersByUUID = Collections.unmodifiableMap(byUUID);
+      this.playersByName = Collections.unmodifiableMap(byName);
+    }
+
+    // keep the already serialized ones (and with that their ETags) if nothing changed
+    this.arenasJson = PrebuiltJson.reuseIfEqual(previous != null ? previous.arenasJson : null, this.arenas);
+    this.serversJson = PrebuiltJson.reuseIfEqual(previous != null ? previous.serversJson : null, this.servers);
+    this.playersJson = PrebuiltJson.reuseIfEqual(previous != null ? previous.playersJson : null, this.players);
+  }
+
+  @Nullable
+  public OnlinePlayerModel getPlayerByName(String name) {
+    return this.playersByName.get(name.toLowerCase(Locale.ROOT));
+  }
+
+  // lazily, as most snapshots won't ever be paged through
+  public List<OnlinePlayerModel> getPlayersSortedByUUID() {
+    List<OnlinePlayerModel> sorted = this.playersSortedByUUID;
+
+    if (sorted == null) {
+      final List<OnlinePlayerModel> list = new ArrayList<>(this.players);
+
+      list.sort(Comparator.comparing(OnlinePlayerModel::getUuid, UUID_ORDER));
+      this.playersSortedByUUID = sorted = Collections.unmodifiableList(list);
+    }
+
+    return sorted;
+  }
+
+  // index of the first player within getPlayersSortedByUUID() whose uuid comes after the given one
+  public int indexOfPlayerAfter(UUID uuid) {
+    final List<OnlinePlayerModel> sorted = getPlayersSortedByUUID();
+    int low = 0, high = sorted.size();
+
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+
+      if (UUID_ORDER.compare(sorted.get(mid).getUuid(), uuid) <= 0)
+        low = mid + 1;
+      else
+        high = mid;
+    }
+
+    return low;
+  }
+
+  public static RemoteSnapshot build(@Nullable RemoteSnapshot previous) {
+    final RemoteAPI api = RemoteAPI.get();
+
+    return new RemoteSnapshot(
+        previous,
+        ArenaModel.from(api.getArenas()),
+        ServerModel.from(api.getServers()),
+        OnlinePlayerModel.from(api.getOnlinePlayers()));
+  }
+}
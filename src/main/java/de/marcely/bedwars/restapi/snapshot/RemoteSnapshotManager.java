@@ -0,0 +1,99 @@
+package de.marcely.bedwars.restapi.snapshot;
+
+import de.marcely.bedwars.api.event.remote.RemoteArenaPropertiesChangeEvent;
+import de.marcely.bedwars.api.event.remote.RemotePlayerAddEvent;
+import de.marcely.bedwars.api.event.remote.RemotePlayerRemoveEvent;
+import de.marcely.bedwars.api.event.remote.RemoteServerRegisterEvent;
+import de.marcely.bedwars.api.event.remote.RemoteServerUnregisterEvent;
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+public class RemoteSnapshotManager implements Listener {
+
+  private volatile RemoteSnapshot current;
+  private volatile boolean dirty = true;
+  private BukkitTask task;
+
+  public void start(RestApiPlugin plugin) {
+    if (!Configs.snapshotEnabled)
+      return;
+
+    this.current = RemoteSnapshot.build(null);
+    this.dirty = false;
+
+    Bukkit.getPluginManager().registerEvents(this, plugin);
+    this.task = Bukkit.getScheduler().runTaskTimer(
+        plugin,
+        this::tick,
+        Configs.snapshotRefreshTicks,
+        Configs.snapshotRefreshTicks);
+  }
+
+  public void stop() {
+    if (this.task != null) {
+      this.task.cancel();
+      this.task = null;
+    }
+  }
+
+  public RemoteSnapshot get() {
+    final RemoteSnapshot snapshot = this.current;
+
+    // disabled -> behave as if there wasn't any and build it on demand
+    if (snapshot == null)
+      return RemoteSnapshot.build(null);
+
+    return snapshot;
+  }
+
+  @Nullable
+  public RemoteSnapshot getIfMaintained() {
+    return this.current;
+  }
+
+  public void markDirty() {
+    this.dirty = true;
+  }
+
+  private void tick() {
+    final boolean outdated = System.currentTimeMillis() - this.current.getCreatedAt() >= Configs.snapshotMaxAgeSeconds * 1000L;
+
+    if (!this.dirty && !outdated)
+      return;
+
+    // reset before building, as new changes may come in while doing so
+    this.dirty = false;
+    this.current = RemoteSnapshot.build(this.current);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onArenaPropertiesChange(RemoteArenaPropertiesChangeEvent event) {
+    markDirty();
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerAdd(RemotePlayerAddEvent event) {
+    markDirty();
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerRemove(RemotePlayerRemoveEvent event) {
+    markDirty();
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onServerRegister(RemoteServerRegisterEvent event) {
+    markDirty();
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onServerUnregister(RemoteServerUnregisterEvent event) {
+    markDirty();
+  }
+}
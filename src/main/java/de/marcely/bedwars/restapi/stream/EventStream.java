@@ -0,0 +1,203 @@
+package de.marcely.bedwars.restapi.stream;
+
+import de.marcely.bedwars.api.event.remote.RemoteArenaPropertiesChangeEvent;
+import de.marcely.bedwars.api.event.remote.RemotePlayerAddEvent;
+import de.marcely.bedwars.api.event.remote.RemotePlayerRemoveEvent;
+import de.marcely.bedwars.api.event.remote.RemoteServerRegisterEvent;
+import de.marcely.bedwars.api.event.remote.RemoteServerUnregisterEvent;
+import de.marcely.bedwars.api.remote.RemotePlayer;
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import de.marcely.bedwars.restapi.model.misc.ArenaModel;
+import de.marcely.bedwars.restapi.model.misc.OnlinePlayerModel;
+import de.marcely.bedwars.restapi.model.misc.ServerModel;
+import io.javalin.http.sse.SseClient;
+import io.javalin.json.JsonMapper;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.jetbrains.annotations.Nullable;
+
+public class EventStream implements Listener {
+
+  private final Set<StreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+  private ExecutorService executor; // writes to the clients
+  private ExecutorService serializer;
+  private ScheduledExecutorService heartbeats;
+  private volatile JsonMapper jsonMapper;
+
+  @Getter
+  private final LongAdder published = new LongAdder();
+  @Getter
+  private final LongAdder dropped = new LongAdder();
+
+  public void start(RestApiPlugin plugin) {
+    if (!Configs.eventStreamEnabled)
+      return;
+
+    final AtomicInteger threadId = new AtomicInteger();
+
+    this.executor = Executors.newFixedThreadPool(Configs.eventStreamThreads, r -> {
+      final Thread thread = new Thread(r, "RestAPI-EventStream-" + threadId.incrementAndGet());
+
+      thread.setDaemon(true);
+
+      return thread;
+    });
+    // separated from the writes, so that slow clients don't hold up the events of all others
+    this.serializer = Executors.newSingleThreadExecutor(r -> {
+      final Thread thread = new Thread(r, "RestAPI-EventStream-Serializer");
+
+      thread.setDaemon(true);
+
+      return thread;
+    });
+    this.heartbeats = Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread thread = new Thread(r, "RestAPI-EventStream-Heartbeat");
+
+      thread.setDaemon(true);
+
+      return thread;
+    });
+
+    // otherwise the connection would be closed by the idle timeout
+    this.heartbeats.scheduleAtFixedRate(() -> {
+      for (StreamSubscriber subscriber : this.subscribers)
+        subscriber.heartbeat(this.executor);
+    }, Configs.eventStreamHeartbeatSeconds, Configs.eventStreamHeartbeatSeconds, TimeUnit.SECONDS);
+
+    // writes block until the client took them in. disconnect the ones that are stuck at it
+    this.heartbeats.scheduleAtFixedRate(() -> {
+      final long timeout = TimeUnit.MILLISECONDS.toNanos(Configs.eventStreamWriteTimeoutMillis);
+
+      for (StreamSubscriber subscriber : this.subscribers) {
+        if (subscriber.isStalled(timeout)) {
+          this.subscribers.remove(subscriber);
+          this.dropped.increment();
+          subscriber.abort();
+        }
+      }
+    }, 1, 1, TimeUnit.SECONDS);
+
+    Bukkit.getPluginManager().registerEvents(this, plugin);
+  }
+
+  public void stop() {
+    if (this.executor == null)
+      return;
+
+    this.heartbeats.shutdownNow();
+    this.serializer.shutdownNow();
+    this.executor.shutdownNow();
+
+    for (StreamSubscriber subscriber : this.subscribers)
+      subscriber.getClient().close();
+
+    this.subscribers.clear();
+  }
+
+  public boolean isEnabled() {
+    return this.executor != null;
+  }
+
+  public int getSubscriberCount() {
+    return this.subscribers.size();
+  }
+
+  public boolean hasCapacity() {
+    return this.subscribers.size() < Configs.eventStreamMaxSubscribers;
+  }
+
+  public void subscribe(SseClient client, StreamFilter filter) {
+    if (!hasCapacity()) {
+      client.close();
+      return;
+    }
+
+    final StreamSubscriber subscriber = new StreamSubscriber(client, filter, Configs.eventStreamBufferSize);
+
+    this.jsonMapper = client.ctx().jsonMapper();
+    this.subscribers.add(subscriber);
+
+    client.onClose(() -> this.subscribers.remove(subscriber));
+    client.keepAlive();
+  }
+
+  private void publish(StreamEventType type, @Nullable String serverChannelName, @Nullable String arenaRestId, Object model) {
+    final JsonMapper jsonMapper = this.jsonMapper;
+
+    if (jsonMapper == null)
+      return;
+
+    this.published.increment();
+
+    // serialized once for all subscribers, and not on the main thread
+    this.serializer.execute(() -> {
+      final StreamEvent event = new StreamEvent(
+          type,
+          serverChannelName,
+          arenaRestId,
+          jsonMapper.toJsonString(model, model.getClass()));
+
+      for (StreamSubscriber subscriber : this.subscribers) {
+        if (subscriber.getFilter().matches(event))
+          subscriber.offer(event, this.executor);
+      }
+    });
+  }
+
+  private void publishPlayer(StreamEventType type, RemotePlayer player) {
+    if (this.subscribers.isEmpty())
+      return;
+
+    final OnlinePlayerModel model = OnlinePlayerModel.from(player);
+
+    publish(type, model.getServerChannelName(), model.getArenaRestId(), model);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onArenaPropertiesChange(RemoteArenaPropertiesChangeEvent event) {
+    if (this.subscribers.isEmpty())
+      return;
+
+    final ArenaModel model = ArenaModel.from(event.getArena());
+
+    publish(StreamEventType.ARENA_UPDATE, model.getServerChannelName(), model.getRestId(), model);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerAdd(RemotePlayerAddEvent event) {
+    publishPlayer(StreamEventType.PLAYER_JOIN, event.getRemotePlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerRemove(RemotePlayerRemoveEvent event) {
+    publishPlayer(StreamEventType.PLAYER_LEAVE, event.getRemotePlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onServerRegister(RemoteServerRegisterEvent event) {
+    if (this.subscribers.isEmpty())
+      return;
+
+    publish(StreamEventType.SERVER_REGISTER, event.getServer().getBungeeChannelName(), null, ServerModel.from(event.getServer()));
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onServerUnregister(RemoteServerUnregisterEvent event) {
+    if (this.subscribers.isEmpty())
+      return;
+
+    publish(StreamEventType.SERVER_UNREGISTER, event.getServer().getBungeeChannelName(), null, ServerModel.from(event.getServer()));
+  }
+}
@@ -0,0 +1,15 @@
+package de.marcely.bedwars.restapi.stream;
+
+import lombok.Data;
+import org.jetbrains.annotations.Nullable;
+
+@Data
+public class StreamEvent {
+
+  private final StreamEventType type;
+  @Nullable
+  private final String serverChannelName;
+  @Nullable
+  private final String arenaRestId;
+  private final String json;
+}
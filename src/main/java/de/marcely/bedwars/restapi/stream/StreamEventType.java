@@ -0,0 +1,27 @@
+package de.marcely.bedwars.restapi.stream;
+
+import java.util.Locale;
+import org.jetbrains.annotations.Nullable;
+
+public enum StreamEventType {
+
+  ARENA_UPDATE,
+  PLAYER_JOIN,
+  PLAYER_LEAVE,
+  SERVER_REGISTER,
+  SERVER_UNREGISTER;
+
+  public String getId() {
+    return name().toLowerCase(Locale.ROOT).replace('_', '-');
+  }
+
+  @Nullable
+  public static StreamEventType fromId(String id) {
+    for (StreamEventType type : values()) {
+      if (type.getId().equalsIgnoreCase(id))
+        return type;
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,28 @@
+package de.marcely.bedwars.restapi.stream;
+
+import java.util.Set;
+import lombok.Data;
+import org.jetbrains.annotations.Nullable;
+
+@Data
+public class StreamFilter {
+
+  // null means that it doesn't filter by it
+  @Nullable
+  private final Set<StreamEventType> types;
+  @Nullable
+  private final Set<String> serverChannelNames;
+  @Nullable
+  private final Set<String> arenaRestIds;
+
+  public boolean matches(StreamEvent event) {
+    if (this.types != null && !this.types.contains(event.getType()))
+      return false;
+    if (this.serverChannelNames != null && !this.serverChannelNames.contains(event.getServerChannelName()))
+      return false;
+    if (this.arenaRestIds != null && !this.arenaRestIds.contains(event.getArenaRestId()))
+      return false;
+
+    return true;
+  }
+}
@@ -0,0 +1,119 @@
+package de.marcely.bedwars.restapi.stream;
+
+import de.marcely.bedwars.restapi.util.Util;
+import io.javalin.http.sse.SseClient;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import lombok.Getter;
+
+class StreamSubscriber {
+
+  @Getter
+  private final SseClient client;
+  @Getter
+  private final StreamFilter filter;
+  private final int bufferSize;
+
+  private final Queue<StreamEvent> buffer = new ArrayDeque<>();
+  private boolean draining = false;
+  private boolean overflowed = false;
+  private boolean heartbeat = false;
+  private volatile long writingSince = 0; // 0 = not writing
+
+  StreamSubscriber(SseClient client, StreamFilter filter, int bufferSize) {
+    this.client = client;
+    this.filter = filter;
+    this.bufferSize = bufferSize;
+  }
+
+  void offer(StreamEvent event, Executor executor) {
+    synchronized (this) {
+      // slow client. it has to fetch the full state anew once it caught up
+      if (this.buffer.size() >= this.bufferSize) {
+        this.buffer.poll();
+        this.overflowed = true;
+      }
+
+      this.buffer.add(event);
+
+      if (!startDraining())
+        return;
+    }
+
+    executor.execute(this::drain);
+  }
+
+  void heartbeat(Executor executor) {
+    synchronized (this) {
+      this.heartbeat = true;
+
+      if (!startDraining())
+        return;
+    }
+
+    executor.execute(this::drain);
+  }
+
+  boolean isStalled(long timeoutNanos) {
+    final long since = this.writingSince;
+
+    return since != 0 && System.nanoTime() - since >= timeoutNanos;
+  }
+
+  // closing alone wouldn't wake up a write that is blocked, so the connection is being cut
+  void abort() {
+    Util.abortResponse(this.client.ctx(), new TimeoutException("Client didn't take in the events in time"));
+    this.client.close();
+  }
+
+  // all writes happen within drain, as the client mustn't be written to concurrently
+  private boolean startDraining() {
+    if (this.draining)
+      return false;
+
+    this.draining = true;
+
+    return true;
+  }
+
+  private void drain() {
+    while (true) {
+      final StreamEvent event;
+      final boolean overflowed;
+      final boolean heartbeat;
+
+      synchronized (this) {
+        event = this.buffer.poll();
+        overflowed = this.overflowed;
+        heartbeat = this.heartbeat;
+        this.overflowed = false;
+        this.heartbeat = false;
+
+        if (event == null && !heartbeat) {
+          this.draining = false;
+          return;
+        }
+      }
+
+      if (this.client.terminated())
+        continue; // discard, it's going to be removed
+
+      this.writingSince = System.nanoTime();
+
+      try {
+        if (overflowed)
+          this.client.sendEvent("overflow", "{}");
+        if (event != null)
+          this.client.sendEvent(event.getType().getId(), event.getJson());
+        if (heartbeat)
+          this.client.sendComment("heartbeat");
+      } catch (Exception e) {
+        this.client.close();
+      } finally {
+        this.writingSince = 0;
+      }
+    }
+  }
+}
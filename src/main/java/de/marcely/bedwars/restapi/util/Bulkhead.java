@@ -0,0 +1,102 @@
+package de.marcely.bedwars.restapi.util;
+
+import de.marcely.bedwars.restapi.Configs;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.Getter;
+
+public class Bulkhead {
+
+  private final StorageEndpoint endpoint;
+  private final Queue<Runnable> queued = new ArrayDeque<>();
+  private int active = 0;
+
+  @Getter
+  private final LongAdder rejected = new LongAdder();
+
+  Bulkhead(StorageEndpoint endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  public synchronized int getActive() {
+    return this.active;
+  }
+
+  public synchronized int getQueued() {
+    return this.queued.size();
+  }
+
+  // a slot is being held until the future of the storage call completes. not when the returned one does,
+  // as the caller may stop waiting for it (e.g. due to a timeout) while the storage is still busy with it
+  public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+    final int maxConcurrent = Configs.bulkheadMaxConcurrent.get(this.endpoint);
+
+    if (maxConcurrent <= 0)
+      return call.get(); // disabled
+
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    final Runnable start = () -> start(call, result);
+
+    synchronized (this) {
+      if (this.active >= maxConcurrent) {
+        if (this.queued.size() >= Configs.bulkheadMaxQueued.get(this.endpoint)) {
+          this.rejected.increment();
+          return CompletableFuture.failedFuture(new BulkheadFullException(this.endpoint));
+        }
+
+        this.queued.add(start);
+        return result;
+      }
+
+      this.active++;
+    }
+
+    start.run();
+
+    return result;
+  }
+
+  private <T> void start(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {
+    // nobody is waiting for it anymore, e.g. it timed out while being queued
+    if (result.isDone()) {
+      release();
+      return;
+    }
+
+    CompletableFuture<T> future;
+
+    try {
+      future = call.get();
+    } catch (Throwable t) {
+      future = CompletableFuture.failedFuture(t);
+    }
+
+    future.whenComplete((value, t) -> {
+      release();
+
+      if (t != null)
+        result.completeExceptionally(t);
+      else
+        result.complete(value);
+    });
+  }
+
+  private void release() {
+    final Runnable next;
+
+    synchronized (this) {
+      next = this.queued.poll();
+
+      // the slot is being passed on to the next one
+      if (next == null) {
+        this.active--;
+        return;
+      }
+    }
+
+    next.run();
+  }
+}
@@ -0,0 +1,15 @@
+package de.marcely.bedwars.restapi.util;
+
+import lombok.Getter;
+
+public class BulkheadFullException extends RuntimeException {
+
+  @Getter
+  private final StorageEndpoint endpoint;
+
+  public BulkheadFullException(StorageEndpoint endpoint) {
+    super("Too many concurrent " + endpoint.getId() + " requests", null, false, false);
+
+    this.endpoint = endpoint;
+  }
+}
@@ -0,0 +1,25 @@
+package de.marcely.bedwars.restapi.util;
+
+import java.util.Locale;
+import org.jetbrains.annotations.Nullable;
+
+public enum CompressionType {
+
+  NONE,
+  GZIP,
+  BROTLI; // with gzip as fallback
+
+  public String getId() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+
+  @Nullable
+  public static CompressionType fromId(String id) {
+    for (CompressionType type : values()) {
+      if (type.getId().equalsIgnoreCase(id))
+        return type;
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,98 @@
+package de.marcely.bedwars.restapi.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// each lane keeps picking up the next input once its previous one is done. fetches that are done right away
+// (e.g. cache hits) are handled within a loop, only pending ones continue from the thread that completes them.
+// this way the stack doesn't grow with the amount of inputs
+class FanOut<T, R> {
+
+  private final List<T> inputs;
+  private final Function<T, CompletableFuture<R>> fetcher;
+  private final Object[] results;
+  private final AtomicInteger nextIndex = new AtomicInteger();
+  private final AtomicInteger remaining;
+  private final CompletableFuture<List<R>> result = new CompletableFuture<>();
+
+  private FanOut(List<T> inputs, Function<T, CompletableFuture<R>> fetcher) {
+    this.inputs = inputs;
+    this.fetcher = fetcher;
+    this.results = new Object[inputs.size()];
+    this.remaining = new AtomicInteger(inputs.size());
+  }
+
+  private void runLane() {
+    while (!this.result.isDone()) {
+      final int index = this.nextIndex.getAndIncrement();
+
+      if (index >= this.inputs.size())
+        return;
+
+      final CompletableFuture<R> future;
+
+      try {
+        future = this.fetcher.apply(this.inputs.get(index));
+      } catch (Throwable t) {
+        this.result.completeExceptionally(t);
+        return;
+      }
+
+      if (!future.isDone()) {
+        future.whenComplete((result, t) -> {
+          if (complete(index, result, t))
+            runLane();
+        });
+        return;
+      }
+
+      // whenComplete would run it on our stack
+      R result = null;
+      Throwable failure = null;
+
+      try {
+        result = future.join();
+      } catch (CompletionException e) {
+        failure = e.getCause() != null ? e.getCause() : e;
+      } catch (CancellationException e) {
+        failure = e;
+      }
+
+      if (!complete(index, result, failure))
+        return;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean complete(int index, R result, Throwable t) {
+    if (t != null) {
+      this.result.completeExceptionally(t);
+      return false;
+    }
+
+    this.results[index] = result;
+
+    if (this.remaining.decrementAndGet() == 0)
+      this.result.complete((List<R>) Arrays.asList(this.results));
+
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T, R> CompletableFuture<List<R>> run(List<T> inputs, Function<T, CompletableFuture<R>> fetcher, int maxParallel) {
+    final FanOut<T, R> fanOut = new FanOut<>(inputs, fetcher);
+
+    if (inputs.isEmpty())
+      return CompletableFuture.completedFuture((List<R>) Arrays.asList(fanOut.results));
+
+    for (int i = Math.min(inputs.size(), Math.max(1, maxParallel)); i > 0; i--)
+      fanOut.runLane();
+
+    return fanOut.result;
+  }
+}
@@ -0,0 +1,74 @@
+package de.marcely.bedwars.restapi.util;
+
+import de.marcely.bedwars.restapi.Configs;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import org.jetbrains.annotations.Nullable;
+
+public class Pagination {
+
+  private static final int CURSOR_VERSION = 1;
+
+  public static int validLimit(Context ctx) {
+    return ctx.queryParamAsClass("limit", Integer.class)
+        .check(i -> i >= 1, "limit must be greater than 0")
+        .check(i -> i <= Configs.paginationMaxPageSize, "limit must not be greater than " + Configs.paginationMaxPageSize)
+        .getOrDefault(Configs.paginationDefaultPageSize);
+  }
+
+  // the type makes sure that a cursor of one route can't be passed to another one
+  public static String encodeCursor(String type, String... fields) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(CURSOR_VERSION);
+      out.writeUTF(type);
+      out.writeByte(fields.length);
+
+      for (String field : fields)
+        out.writeUTF(field);
+    } catch (IOException e) {
+      throw new RuntimeException(e); // shouldn't occur, we're writing into memory
+    }
+
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+  }
+
+  public static String[] decodeCursor(String cursor, String type, int fieldCount) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+      if (in.readUnsignedByte() != CURSOR_VERSION || !in.readUTF().equals(type) || in.readUnsignedByte() != fieldCount)
+        throw new BadRequestResponse("cursor is invalid");
+
+      final String[] fields = new String[fieldCount];
+
+      for (int i = 0; i < fieldCount; i++)
+        fields[i] = in.readUTF();
+
+      if (in.available() > 0)
+        throw new BadRequestResponse("cursor is invalid");
+
+      return fields;
+    } catch (IllegalArgumentException | IOException e) {
+      throw new BadRequestResponse("cursor is invalid");
+    }
+  }
+
+  // returns the link to the next page and also passes it with the Link header
+  @Nullable
+  public static String writeNextLink(Context ctx, @Nullable String nextCursor) {
+    if (nextCursor == null)
+      return null;
+
+    final String link = ctx.path() + "?cursor=" + nextCursor;
+
+    ctx.header("Link", "<" + link + ">; rel=\"next\"");
+
+    return link;
+  }
+}
@@ -0,0 +1,178 @@
+package de.marcely.bedwars.restapi.util;
+
+import de.marcely.bedwars.restapi.Configs;
+import io.javalin.http.ContentType;
+import io.javalin.http.Context;
+import io.javalin.http.Header;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+public class PrebuiltJson {
+
+  @Getter
+  private final Object model;
+  private final Type type;
+  private volatile Serialized serialized;
+
+  public PrebuiltJson(Object model, Type type) {
+    this.model = model;
+    this.type = type;
+  }
+
+  public PrebuiltJson(Object model) {
+    this(model, model.getClass());
+  }
+
+  public byte[] getJson(Context ctx) {
+    return getSerialized(ctx).json;
+  }
+
+  public String getETag(Context ctx) {
+    return getSerialized(ctx).etag;
+  }
+
+  public void write(Context ctx) {
+    final Serialized serialized = getSerialized(ctx);
+    final boolean gzip = Configs.compression != CompressionType.NONE
+        && serialized.json.length >= Configs.compressionMinSize
+        && acceptsGzip(ctx);
+
+    // javalin answers with 304 on its own if it matches If-None-Match
+    if (Configs.etagsEnabled)
+      ctx.header(Header.ETAG, gzip ? serialized.getGzipETag() : serialized.etag);
+
+    ctx.contentType(ContentType.APPLICATION_JSON);
+
+    if (gzip) {
+      // javalin won't compress it again as Content-Encoding is already present
+      ctx.header(Header.CONTENT_ENCODING, "gzip");
+      ctx.header(Header.VARY, Header.ACCEPT_ENCODING);
+      ctx.result(serialized.getGzip());
+    } else {
+      // javalin only checks whether the header contains "gzip" and would compress it for e.g. "gzip;q=0"
+      if (isGzipRefused(ctx))
+        ctx.disableCompression();
+
+      ctx.result(serialized.json);
+    }
+  }
+
+  private Serialized getSerialized(Context ctx) {
+    Serialized serialized = this.serialized;
+
+    // serialized lazily, as we need the mapper of the request.
+    // concurrent requests may serialize it twice, which doesn't hurt
+    if (serialized == null) {
+      final byte[] json = ctx.jsonMapper().toJsonString(this.model, this.type).getBytes(StandardCharsets.UTF_8);
+
+      this.serialized = serialized = new Serialized(json, Util.computeETag(json));
+    }
+
+    return serialized;
+  }
+
+  // e.g. "deflate, gzip;q=0.8". an explicit gzip entry wins over *, and q=0 means not acceptable
+  private static boolean acceptsGzip(Context ctx) {
+    final String accepted = ctx.header(Header.ACCEPT_ENCODING);
+
+    if (accepted == null)
+      return false;
+
+    float gzipQuality = -1, wildcardQuality = -1;
+
+    for (String entry : accepted.split(",")) {
+      final String[] params = entry.split(";");
+      final String coding = params[0].trim();
+      final boolean isGzip = coding.equalsIgnoreCase("gzip");
+
+      if (!isGzip && !coding.equals("*"))
+        continue;
+
+      final float quality = parseQuality(params);
+
+      if (isGzip)
+        gzipQuality = Math.max(gzipQuality, quality);
+      else
+        wildcardQuality = Math.max(wildcardQuality, quality);
+    }
+
+    return (gzipQuality >= 0 ? gzipQuality : wildcardQuality) > 0;
+  }
+
+  private static boolean isGzipRefused(Context ctx) {
+    final String accepted = ctx.header(Header.ACCEPT_ENCODING);
+
+    return accepted != null && accepted.toLowerCase(Locale.ROOT).contains("gzip") && !acceptsGzip(ctx);
+  }
+
+  private static float parseQuality(String[] params) {
+    for (int i = 1; i < params.length; i++) {
+      final String param = params[i].trim();
+
+      if (!param.regionMatches(true, 0, "q=", 0, 2))
+        continue;
+
+      try {
+        final float quality = Float.parseFloat(param.substring(2).trim());
+
+        // also catches NaN
+        return quality >= 0 && quality <= 1 ? quality : 0;
+      } catch (NumberFormatException e) {
+        return 0; // malformed, rather not risk it
+      }
+    }
+
+    return 1;
+  }
+
+  public static PrebuiltJson reuseIfEqual(@Nullable PrebuiltJson previous, Object model) {
+    if (previous != null && previous.model.equals(model))
+      return previous;
+
+    return new PrebuiltJson(model);
+  }
+
+
+  private static class Serialized {
+
+    private final byte[] json;
+    private final String etag;
+    private volatile byte[] gzip;
+
+    Serialized(byte[] json, String etag) {
+      this.json = json;
+      this.etag = etag;
+    }
+
+    String getGzipETag() {
+      // a different representation requires a different strong ETag
+      return this.etag.substring(0, this.etag.length() - 1) + "-gzip\"";
+    }
+
+    byte[] getGzip() {
+      byte[] gzip = this.gzip;
+
+      if (gzip == null) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(this.json.length / 4 + 64);
+
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes) {{
+          this.def.setLevel(Configs.compressionGzipLevel);
+        }}) {
+          out.write(this.json);
+        } catch (IOException e) {
+          throw new RuntimeException(e); // shouldn't occur, it's all in memory
+        }
+
+        this.gzip = gzip = bytes.toByteArray();
+      }
+
+      return gzip;
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package de.marcely.bedwars.restapi.util;
+
+import de.marcely.bedwars.restapi.metrics.LatencyHistogram;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+@Getter
+public enum StorageEndpoint {
+
+  STATS("stats"),
+  LEADERBOARD("leaderboard"),
+  PROPERTIES("properties"),
+  ACHIEVEMENTS("achievements"),
+  UUID("uuid");
+
+  private final String id;
+  private final LongAdder timeouts = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final Bulkhead bulkhead = new Bulkhead(this);
+  private final LatencyHistogram waitDurations = new LatencyHistogram();
+
+  StorageEndpoint(String id) {
+    this.id = id;
+  }
+}
@@ -1,31 +1,121 @@
 package de.marcely.bedwars.restapi.util;
 
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import io.javalin.http.Context;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import org.bukkit.Bukkit;
 import org.bukkit.configuration.Configuration;
 import org.bukkit.configuration.MemoryConfiguration;
+import org.eclipse.jetty.server.Request;
 
 public class Util {
 
-  public static <T> T getAwait(Consumer<Consumer<T>> supplier) {
-    final CountDownLatch latch = new CountDownLatch(1);
-    final AtomicReference<T> cache = new AtomicReference<>();
+  public static <T> CompletableFuture<T> getFuture(Consumer<Consumer<T>> supplier) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
 
-    supplier.accept((result) -> {
-      cache.set(result);
-      latch.countDown();
-    });
+    try {
+      supplier.accept((result) -> {
+        // storage callbacks are usually run on the main thread. make sure
+        // that the response isn't being built and serialized on it
+        if (Bukkit.isPrimaryThread())
+          completeOffMainThread(future, result);
+        else
+          future.complete(result);
+      });
+    } catch (Throwable t) {
+      future.completeExceptionally(t);
+    }
+
+    return future;
+  }
+
+  private static <T> void completeOffMainThread(CompletableFuture<T> future, T result) {
+    final RestApiPlugin plugin = RestApiPlugin.getInstance();
+    final Executor executor = plugin != null ? plugin.getCallbackExecutor() : null;
+
+    if (executor == null) {
+      future.complete(result);
+      return;
+    }
+
+    try {
+      executor.execute(() -> future.complete(result));
+    } catch (RejectedExecutionException e) {
+      future.complete(result); // we're shutting down
+    }
+  }
+
+  public static <T> CompletableFuture<T> getFuture(Consumer<Consumer<T>> supplier, StorageEndpoint endpoint) {
+    final long timeout = Configs.storageTimeouts.get(endpoint);
+    final long start = System.nanoTime();
+
+    // the bulkhead keeps the slot until the storage actually answered, even if we stopped waiting for it
+    return endpoint.getBulkhead().submit(() -> getFuture(supplier))
+        .orTimeout(timeout, TimeUnit.MILLISECONDS)
+        .whenComplete((result, t) -> {
+          final Throwable cause = t instanceof CompletionException ? t.getCause() : t;
+
+          if (cause instanceof TimeoutException)
+            endpoint.getTimeouts().increment();
+          else if (cause != null && !(cause instanceof BulkheadFullException)) // rejections have their own counter
+            endpoint.getErrors().increment();
 
+          endpoint.getWaitDurations().observeSince(start);
+        });
+  }
+
+  // waits for it on the current thread and throws what it failed with, so that it reaches the exception handlers
+  public static <T> T await(CompletableFuture<T> future) throws Exception {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof Exception)
+        throw (Exception) e.getCause();
+
+      throw e;
+    }
+  }
+
+  // cuts the connection of a response that has already been started, so that the client
+  // can't mistake what has been written so far for the complete response
+  public static void abortResponse(Context ctx, Throwable cause) {
     try {
-      latch.await();
-    } catch (InterruptedException e) {
-      throw new RuntimeException(e);
+      Request.getBaseRequest(ctx.req()).getHttpChannel().abort(cause);
+    } catch (Exception e) {
+      // already gone
     }
+  }
+
+  public static <T, R> CompletableFuture<List<R>> fanOut(
+      List<T> inputs,
+      Function<T, CompletableFuture<R>> fetcher,
+      int maxParallel) {
+
+    return FanOut.run(inputs, fetcher, maxParallel);
+  }
 
-    return cache.get();
+  public static String computeETag(byte[] content) {
+    try {
+      final byte[] hash = MessageDigest.getInstance("MD5").digest(content);
+
+      return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e); // shouldn't occur, every JVM must support it
+    }
   }
 
   public static char[] generateRandomPassword(int length) {
@@ -0,0 +1,44 @@
+package de.marcely.bedwars.restapi.perf.benchmark;
+
+import de.marcely.bedwars.restapi.model.misc.ArenaModel;
+import de.marcely.bedwars.restapi.perf.fixture.FakeBedwars;
+import de.marcely.bedwars.restapi.perf.fixture.RemoteFixture;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArenaModelBenchmark {
+
+  @Param({ "100", "500" })
+  public int arenas;
+
+  private RemoteFixture remote;
+
+  @Setup
+  public void setup() {
+    this.remote = RemoteFixture.create(Math.max(1, this.arenas / 20), this.arenas, this.arenas * 8);
+
+    FakeBedwars.install(this.remote.getApi(), null);
+  }
+
+  @Benchmark
+  public Collection<ArenaModel> from() {
+    return ArenaModel.from(this.remote.getArenas());
+  }
+}
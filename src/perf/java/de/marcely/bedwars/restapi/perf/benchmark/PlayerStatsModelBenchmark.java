@@ -0,0 +1,58 @@
+package de.marcely.bedwars.restapi.perf.benchmark;
+
+import de.marcely.bedwars.api.player.PlayerStats;
+import de.marcely.bedwars.restapi.model.player.PlayerStatsModel;
+import de.marcely.bedwars.restapi.perf.fixture.FakeBedwars;
+import de.marcely.bedwars.restapi.perf.fixture.PlayerDataFixture;
+import de.marcely.bedwars.restapi.perf.fixture.RemoteFixture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerStatsModelBenchmark {
+
+  @Param({ "12", "40" })
+  public int statSets;
+
+  @Param({ "1", "100" })
+  public int batchSize;
+
+  private List<PlayerStats> stats;
+
+  @Setup
+  public void setup() {
+    final RemoteFixture remote = RemoteFixture.create(5, 50, this.batchSize);
+    final PlayerDataFixture playerData = PlayerDataFixture.create(remote.getPlayers(), this.statSets);
+
+    this.stats = new ArrayList<>(playerData.getStats().values());
+
+    FakeBedwars.install(remote.getApi(), playerData.getApi());
+  }
+
+  @Benchmark
+  public List<PlayerStatsModel> from() {
+    final List<PlayerStatsModel> models = new ArrayList<>(this.stats.size());
+
+    for (PlayerStats stats : this.stats)
+      models.add(PlayerStatsModel.from(stats));
+
+    return models;
+  }
+}
@@ -0,0 +1,81 @@
+package de.marcely.bedwars.restapi.perf.benchmark;
+
+import de.marcely.bedwars.restapi.model.misc.ArenaModel;
+import de.marcely.bedwars.restapi.model.misc.OnlinePlayerModel;
+import de.marcely.bedwars.restapi.model.misc.ServerModel;
+import de.marcely.bedwars.restapi.model.player.PlayerStatsModel;
+import de.marcely.bedwars.restapi.perf.fixture.FakeBedwars;
+import de.marcely.bedwars.restapi.perf.fixture.PlayerDataFixture;
+import de.marcely.bedwars.restapi.perf.fixture.RemoteFixture;
+import io.javalin.json.JavalinJackson;
+import io.javalin.json.JsonMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+  @Param({ "100", "500" })
+  public int arenas;
+
+  // same mapper as the one javalin uses by default
+  private final JsonMapper mapper = new JavalinJackson();
+
+  private Collection<ArenaModel> arenaModels;
+  private Collection<ServerModel> serverModels;
+  private Collection<OnlinePlayerModel> playerModels;
+  private List<PlayerStatsModel> statsModels;
+
+  @Setup
+  public void setup() {
+    final RemoteFixture remote = RemoteFixture.create(Math.max(1, this.arenas / 20), this.arenas, this.arenas * 8);
+    final PlayerDataFixture playerData = PlayerDataFixture.create(remote.getPlayers().subList(0, 100), 40);
+
+    FakeBedwars.install(remote.getApi(), playerData.getApi());
+
+    this.arenaModels = ArenaModel.from(remote.getArenas());
+    this.serverModels = ServerModel.from(remote.getServers());
+    this.playerModels = OnlinePlayerModel.from(remote.getPlayers());
+    this.statsModels = new ArrayList<>();
+
+    playerData.getStats().values().forEach(stats -> this.statsModels.add(PlayerStatsModel.from(stats)));
+  }
+
+  @Benchmark
+  public String arenas() {
+    return this.mapper.toJsonString(this.arenaModels, this.arenaModels.getClass());
+  }
+
+  @Benchmark
+  public String servers() {
+    return this.mapper.toJsonString(this.serverModels, this.serverModels.getClass());
+  }
+
+  @Benchmark
+  public String players() {
+    return this.mapper.toJsonString(this.playerModels, this.playerModels.getClass());
+  }
+
+  @Benchmark
+  public String stats() {
+    return this.mapper.toJsonString(this.statsModels, this.statsModels.getClass());
+  }
+}
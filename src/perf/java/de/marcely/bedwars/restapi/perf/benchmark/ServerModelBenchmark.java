@@ -0,0 +1,59 @@
+package de.marcely.bedwars.restapi.perf.benchmark;
+
+import de.marcely.bedwars.restapi.model.misc.ServerModel;
+import de.marcely.bedwars.restapi.perf.fixture.FakeBedwars;
+import de.marcely.bedwars.restapi.perf.fixture.RemoteFixture;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServerModelBenchmark {
+
+  @Param({ "5", "20", "50" })
+  public int servers;
+
+  @Param({ "1000", "5000" })
+  public int players;
+
+  private RemoteFixture remote;
+
+  @Setup
+  public void setup() {
+    this.remote = RemoteFixture.create(this.servers, this.servers * 10, this.players);
+
+    FakeBedwars.install(this.remote.getApi(), null);
+  }
+
+  // what /servers and the snapshot use: a single pass over all players
+  @Benchmark
+  public Collection<ServerModel> fromAll() {
+    return ServerModel.from(this.remote.getServers());
+  }
+
+  // one pass over all players per server, as the listing used to do.
+  // scales with servers x players, compare it against fromAll
+  @Benchmark
+  public List<ServerModel> fromEach() {
+    return this.remote.getServers().stream()
+        .map(ServerModel::from)
+        .collect(Collectors.toList());
+  }
+}
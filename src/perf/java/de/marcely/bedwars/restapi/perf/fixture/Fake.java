@@ -0,0 +1,64 @@
+package de.marcely.bedwars.restapi.perf.fixture;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// fakes of the API interfaces. only what the addon actually calls needs to be
+// answered, anything else fails loudly so that gaps in a fixture are obvious
+public class Fake<T> {
+
+  private final Class<T> type;
+  private final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+
+  private Fake(Class<T> type) {
+    this.type = type;
+  }
+
+  public Fake<T> returns(String method, Object value) {
+    return answers(method, args -> value);
+  }
+
+  public Fake<T> answers(String method, Function<Object[], Object> answer) {
+    this.answers.put(method, answer);
+
+    return this;
+  }
+
+  public T build() {
+    final String name = this.type.getSimpleName();
+    final Map<String, Function<Object[], Object>> answers = new HashMap<>(this.answers);
+
+    return this.type.cast(Proxy.newProxyInstance(
+        this.type.getClassLoader(),
+        new Class<?>[] { this.type },
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "equals":
+              if (method.getParameterCount() == 1)
+                return proxy == args[0];
+              break;
+            case "hashCode":
+              if (method.getParameterCount() == 0)
+                return System.identityHashCode(proxy);
+              break;
+            case "toString":
+              if (method.getParameterCount() == 0)
+                return "Fake" + name + "@" + Integer.toHexString(System.identityHashCode(proxy));
+              break;
+          }
+
+          final Function<Object[], Object> answer = answers.get(method.getName());
+
+          if (answer == null)
+            throw new UnsupportedOperationException(name + "#" + method.getName() + " is not faked");
+
+          return answer.apply(args != null ? args : new Object[0]);
+        }));
+  }
+
+  public static <T> Fake<T> of(Class<T> type) {
+    return new Fake<>(type);
+  }
+}
@@ -0,0 +1,64 @@
+package de.marcely.bedwars.restapi.perf.fixture;
+
+import de.marcely.bedwars.api.player.PlayerDataAPI;
+import de.marcely.bedwars.api.remote.RemoteAPI;
+import de.marcely.bedwars.tools.Helper;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+import org.bukkit.inventory.ItemStack;
+import sun.misc.Unsafe;
+
+public class FakeBedwars {
+
+  private static final String LAYER_CLASS = "de.marcely.bedwars.api.BedwarsAPILayer";
+
+  private static volatile RemoteAPI remoteAPI;
+  private static volatile PlayerDataAPI playerDataAPI;
+  private static final Helper helper = Fake.of(Helper.class)
+      .answers("composeItemStack", args -> ((ItemStack) args[0]).getType().name().toLowerCase(Locale.ROOT))
+      .build();
+
+  private static boolean installed;
+
+  // makes RemoteAPI.get(), PlayerDataAPI.get() and Helper.get() return the given fakes.
+  // they are all resolved through the api layer, which usually gets set by MBedwars itself
+  public static synchronized void install(RemoteAPI remote, PlayerDataAPI playerData) {
+    remoteAPI = remote;
+    playerDataAPI = playerData;
+
+    if (installed)
+      return;
+
+    try {
+      final Class<?> layerClass = Class.forName(LAYER_CLASS);
+      final Object layer = Fake.of(layerClass)
+          .answers("getRemoteAPI", args -> remoteAPI)
+          .answers("getPlayerDataAPI", args -> playerDataAPI)
+          .answers("getHelper", args -> helper)
+          .build();
+
+      setStatic(layerClass.getDeclaredField("INSTANCE"), layer);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to install fake api layer into " + LAYER_CLASS, e);
+    }
+
+    installed = true;
+  }
+
+  private static void setStatic(Field field, Object value) throws ReflectiveOperationException {
+    // the field is final, so we need to bypass the reflection checks
+    if (Modifier.isFinal(field.getModifiers())) {
+      final Field unsafeField = Unsafe.class.getDeclaredField("theUnsafe");
+
+      unsafeField.setAccessible(true);
+
+      final Unsafe unsafe = (Unsafe) unsafeField.get(null);
+
+      unsafe.putObjectVolatile(unsafe.staticFieldBase(field), unsafe.staticFieldOffset(field), value);
+    } else {
+      field.setAccessible(true);
+      field.set(null, value);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package de.marcely.bedwars.restapi.perf.fixture;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+public class FakeBukkit {
+
+  private static final long MILLIS_PER_TICK = 50;
+
+  // single thread, just as the server's main thread
+  @Getter
+  private static ScheduledExecutorService mainThread;
+  private static volatile Thread mainThreadHandle;
+
+  public static synchronized void install() {
+    if (mainThread != null)
+      return;
+
+    mainThread = Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread thread = new Thread(r, "Server thread");
+
+      thread.setDaemon(true);
+      mainThreadHandle = thread;
+
+      return thread;
+    });
+
+    final PluginManager pluginManager = Fake.of(PluginManager.class)
+        .answers("registerEvents", args -> null) // there won't be any events
+        .answers("disablePlugin", args -> null)
+        .build();
+    final BukkitScheduler scheduler = Fake.of(BukkitScheduler.class)
+        .answers("runTask", args -> task(mainThread.schedule((Runnable) args[1], 0, TimeUnit.MILLISECONDS)))
+        .answers("runTaskLater", args -> task(mainThread.schedule((Runnable) args[1], ticks(args[2]), TimeUnit.MILLISECONDS)))
+        .answers("runTaskTimer", args -> task(mainThread.scheduleAtFixedRate(
+            (Runnable) args[1],
+            ticks(args[2]),
+            Math.max(MILLIS_PER_TICK, ticks(args[3])),
+            TimeUnit.MILLISECONDS)))
+        .build();
+    final Server server = Fake.of(Server.class)
+        .returns("getLogger", Logger.getLogger("FakeBukkit"))
+        .returns("getName", "FakeBukkit")
+        .returns("getVersion", "perf")
+        .returns("getBukkitVersion", "1.12.2-R0.1-SNAPSHOT")
+        .returns("getPluginManager", pluginManager)
+        .returns("getScheduler", scheduler)
+        .answers("isPrimaryThread", args -> Thread.currentThread() == mainThreadHandle)
+        .build();
+
+    Bukkit.setServer(server);
+  }
+
+  private static long ticks(Object ticks) {
+    return ((Number) ticks).longValue() * MILLIS_PER_TICK;
+  }
+
+  private static BukkitTask task(ScheduledFuture<?> future) {
+    return Fake.of(BukkitTask.class)
+        .answers("cancel", args -> {
+          future.cancel(false);
+          return null;
+        })
+        .answers("isCancelled", args -> future.isCancelled())
+        .build();
+  }
+}
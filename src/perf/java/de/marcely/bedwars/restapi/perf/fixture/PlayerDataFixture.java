@@ -0,0 +1,270 @@
+package de.marcely.bedwars.restapi.perf.fixture;
+
+import de.marcely.bedwars.api.player.LeaderboardFetchResult;
+import de.marcely.bedwars.api.player.PlayerAchievement;
+import de.marcely.bedwars.api.player.PlayerAchievements;
+import de.marcely.bedwars.api.player.PlayerDataAPI;
+import de.marcely.bedwars.api.player.PlayerProperties;
+import de.marcely.bedwars.api.player.PlayerStatSet;
+import de.marcely.bedwars.api.player.PlayerStats;
+import de.marcely.bedwars.api.remote.RemotePlayer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.Getter;
+import org.bukkit.plugin.Plugin;
+
+public class PlayerDataFixture {
+
+  private static final Plugin PLUGIN = Fake.of(Plugin.class)
+      .returns("getName", "MBedwars")
+      .build();
+  private static final OffsetDateTime EPOCH = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+  @Getter
+  private final List<PlayerStatSet> statSets;
+  @Getter
+  private final List<PlayerAchievement> achievementTypes;
+  @Getter
+  private final Map<UUID, PlayerStats> stats;
+  @Getter
+  private final PlayerDataAPI api;
+
+  private final Map<UUID, Number[]> values;
+  private final Map<UUID, PlayerProperties> properties;
+  private final Map<UUID, PlayerAchievements> achievements;
+  private final Map<String, UUID> uuidsByName;
+  private final Map<String, List<UUID>> leaderboards;
+  private final Map<String, Map<UUID, Integer>> ranks;
+
+  // null -> storage answers right away on the calling thread
+  private ScheduledExecutorService callbackThread;
+  private long latencyMillis, jitterMillis;
+
+  private PlayerDataFixture(Collection<? extends RemotePlayer> players, int statSetCount, int achievementTypeCount, long seed) {
+    final Random random = new Random(seed);
+
+    this.statSets = new ArrayList<>(statSetCount);
+    this.achievementTypes = new ArrayList<>(achievementTypeCount);
+    this.stats = new LinkedHashMap<>(players.size() * 2);
+    this.values = new HashMap<>(players.size() * 2);
+    this.properties = new HashMap<>(players.size() * 2);
+    this.achievements = new HashMap<>(players.size() * 2);
+    this.uuidsByName = new HashMap<>(players.size() * 2);
+    this.leaderboards = new HashMap<>(statSetCount * 2);
+    this.ranks = new HashMap<>(statSetCount * 2);
+
+    for (int i = 0; i < statSetCount; i++)
+      this.statSets.add(statSet(i));
+
+    for (int i = 0; i < achievementTypeCount; i++)
+      this.achievementTypes.add(achievementType(i));
+
+    for (RemotePlayer player : players) {
+      final UUID uuid = player.getUniqueId();
+      final Number[] values = new Number[statSetCount];
+      final Map<PlayerAchievement, OffsetDateTime> earned = new LinkedHashMap<>();
+
+      for (int i = 0; i < statSetCount; i++) {
+        // mix of counters and ratios, as with the built-in sets
+        values[i] = i % 4 == 3 ? (Number) (random.nextDouble() * 5) : (Number) random.nextInt(10_000);
+      }
+
+      for (PlayerAchievement type : this.achievementTypes) {
+        if (random.nextInt(3) == 0)
+          earned.put(type, EPOCH.plusMinutes(random.nextInt(1_000_000)));
+      }
+
+      this.values.put(uuid, values);
+      this.stats.put(uuid, stats(uuid));
+      this.properties.put(uuid, properties(uuid, player.getName(), random));
+      this.achievements.put(uuid, achievements(uuid, earned));
+      this.uuidsByName.put(player.getName().toLowerCase(Locale.ROOT), uuid);
+    }
+
+    for (int i = 0; i < statSetCount; i++) {
+      final int index = i;
+      final List<UUID> leaderboard = new ArrayList<>(this.values.keySet());
+      final Map<UUID, Integer> ranks = new HashMap<>(leaderboard.size() * 2);
+
+      leaderboard.sort(Comparator.comparingDouble((UUID uuid) -> this.values.get(uuid)[index].doubleValue()).reversed());
+
+      for (int rank = 0; rank < leaderboard.size(); rank++)
+        ranks.put(leaderboard.get(rank), rank + 1);
+
+      this.leaderboards.put(this.statSets.get(i).getId(), leaderboard);
+      this.ranks.put(this.statSets.get(i).getId(), ranks);
+    }
+
+    this.api = playerDataAPI();
+  }
+
+  // storage answers are passed to the callback thread after the given latency, as MBedwars
+  // passes them to the main thread once the storage responded
+  public void simulateStorage(ScheduledExecutorService callbackThread, long latencyMillis, long jitterMillis) {
+    this.callbackThread = callbackThread;
+    this.latencyMillis = latencyMillis;
+    this.jitterMillis = jitterMillis;
+  }
+
+  private <T> void respond(Object callback, T result) {
+    final Consumer<T> consumer = (Consumer<T>) callback;
+    final ScheduledExecutorService callbackThread = this.callbackThread;
+
+    if (callbackThread == null) {
+      consumer.accept(result);
+      return;
+    }
+
+    final long delay = this.latencyMillis
+        + (this.jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(this.jitterMillis + 1) : 0);
+
+    callbackThread.schedule(() -> consumer.accept(result), delay, TimeUnit.MILLISECONDS);
+  }
+
+  private PlayerDataAPI playerDataAPI() {
+    final Map<String, PlayerStatSet> statSetsById = new HashMap<>(this.statSets.size() * 2);
+    final Map<String, PlayerAchievement> achievementTypesById = new HashMap<>(this.achievementTypes.size() * 2);
+
+    for (PlayerStatSet set : this.statSets)
+      statSetsById.put(set.getId(), set);
+
+    for (PlayerAchievement type : this.achievementTypes)
+      achievementTypesById.put(type.getId(), type);
+
+    return Fake.of(PlayerDataAPI.class)
+        .returns("getRegisteredStatSets", Collections.unmodifiableList(this.statSets))
+        .answers("getStatsSet", args -> statSetsById.get(args[0]))
+        .returns("getRegisteredAchievementTypes", Collections.unmodifiableList(this.achievementTypes))
+        .answers("getAchievementTypeById", args -> achievementTypesById.get(args[0]))
+        .answers("getStats", args -> {
+          final PlayerStats stats = this.stats.get(args[0]);
+
+          // unknown players get empty stats, just as with MBedwars
+          respond(args[1], stats != null ? stats : stats((UUID) args[0]));
+          return null;
+        })
+        .answers("getProperties", args -> {
+          respond(args[1], this.properties.get(args[0]));
+          return null;
+        })
+        .answers("getAchievements", args -> {
+          respond(args[1], this.achievements.get(args[0]));
+          return null;
+        })
+        .answers("getUUIDByName", args -> {
+          respond(args[1], Optional.ofNullable(this.uuidsByName.get(((String) args[0]).toLowerCase(Locale.ROOT))));
+          return null;
+        })
+        .answers("fetchLeaderboard", args -> {
+          respond(args[3], leaderboard(((PlayerStatSet) args[0]).getId()));
+          return null;
+        })
+        .answers("fetchLeaderboardPosition", args -> {
+          respond(args[2], this.ranks.get(((PlayerStatSet) args[1]).getId()).get(args[0]));
+          return null;
+        })
+        .build();
+  }
+
+  private LeaderboardFetchResult leaderboard(String statSetId) {
+    final List<UUID> leaderboard = this.leaderboards.get(statSetId);
+
+    return Fake.of(LeaderboardFetchResult.class)
+        .answers("getStatsAtRank", args -> {
+          final int rank = (int) args[0];
+
+          return rank >= 1 && rank <= leaderboard.size() ? this.stats.get(leaderboard.get(rank - 1)) : null;
+        })
+        .answers("getPropertiesAtRank", args -> {
+          final int rank = (int) args[0];
+
+          return rank >= 1 && rank <= leaderboard.size() ? this.properties.get(leaderboard.get(rank - 1)) : null;
+        })
+        .build();
+  }
+
+  private Number value(PlayerStats stats, int index) {
+    final Number[] values = this.values.get(stats.getPlayerUUID());
+
+    if (values == null)
+      return 0;
+
+    return values[index];
+  }
+
+  private PlayerStatSet statSet(int index) {
+    return Fake.of(PlayerStatSet.class)
+        .returns("getId", "stat_" + index)
+        .returns("getName", "Stat " + index)
+        .returns("getPlugin", PLUGIN)
+        .answers("getValue", args -> value((PlayerStats) args[0], index))
+        .answers("getDisplayedValue", args -> String.valueOf(value((PlayerStats) args[0], index)))
+        .build();
+  }
+
+  private static PlayerAchievement achievementType(int index) {
+    return Fake.of(PlayerAchievement.class)
+        .returns("getId", "achievement_" + index)
+        .returns("getName", "Achievement " + index)
+        .returns("getDescription", "Description of achievement " + index)
+        .returns("getPlugin", PLUGIN)
+        .build();
+  }
+
+  private static PlayerStats stats(UUID uuid) {
+    return Fake.of(PlayerStats.class)
+        .returns("getPlayerUUID", uuid)
+        .build();
+  }
+
+  private static PlayerProperties properties(UUID uuid, String name, Random random) {
+    final Map<String, String> entries = new LinkedHashMap<>();
+
+    entries.put("name", name);
+    entries.put("locale", random.nextBoolean() ? "en_us" : "de_de");
+    entries.put("kit", "kit_" + random.nextInt(8));
+
+    return Fake.of(PlayerProperties.class)
+        .returns("getPlayerUUID", uuid)
+        .returns("getStoredKeys", Collections.unmodifiableSet(entries.keySet()))
+        .answers("get", args -> Optional.ofNullable(entries.get(args[0])))
+        .build();
+  }
+
+  private static PlayerAchievements achievements(UUID uuid, Map<PlayerAchievement, OffsetDateTime> earned) {
+    final List<String> ids = new ArrayList<>(earned.size());
+
+    for (PlayerAchievement type : earned.keySet())
+      ids.add(type.getId());
+
+    return Fake.of(PlayerAchievements.class)
+        .returns("getPlayerUUID", uuid)
+        .returns("getEarnedIds", Collections.unmodifiableList(ids))
+        .answers("getEarnDate", args -> earned.get(args[0]))
+        .build();
+  }
+
+  public static PlayerDataFixture create(Collection<? extends RemotePlayer> players, int statSets, int achievementTypes) {
+    return new PlayerDataFixture(players, statSets, achievementTypes, 42L);
+  }
+
+  public static PlayerDataFixture create(Collection<? extends RemotePlayer> players, int statSets) {
+    return create(players, statSets, 20);
+  }
+}
@@ -0,0 +1,162 @@
+package de.marcely.bedwars.restapi.perf.fixture;
+
+import de.marcely.bedwars.api.arena.ArenaStatus;
+import de.marcely.bedwars.api.arena.Team;
+import de.marcely.bedwars.api.remote.RemoteAPI;
+import de.marcely.bedwars.api.remote.RemoteArena;
+import de.marcely.bedwars.api.remote.RemotePlayer;
+import de.marcely.bedwars.api.remote.RemoteServer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import lombok.Getter;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+@Getter
+public class RemoteFixture {
+
+  private final List<RemoteServer> servers;
+  private final List<RemoteArena> arenas;
+  private final List<RemotePlayer> players;
+  private final RemoteAPI api;
+
+  private RemoteFixture(int serverCount, int arenaCount, int playerCount, long seed) {
+    final Random random = new Random(seed);
+    final List<List<RemoteArena>> arenasByServer = new ArrayList<>(serverCount);
+    final List<List<RemotePlayer>> playersByServer = new ArrayList<>(serverCount);
+    final Map<RemoteArena, List<RemotePlayer>> playersByArena = new HashMap<>(arenaCount * 2);
+
+    this.servers = new ArrayList<>(serverCount);
+    this.arenas = new ArrayList<>(arenaCount);
+    this.players = new ArrayList<>(playerCount);
+
+    for (int i = 0; i < serverCount; i++) {
+      final List<RemoteArena> serverArenas = new ArrayList<>();
+      final List<RemotePlayer> serverPlayers = new ArrayList<>();
+
+      arenasByServer.add(serverArenas);
+      playersByServer.add(serverPlayers);
+      this.servers.add(server(i, serverArenas, serverPlayers));
+    }
+
+    for (int i = 0; i < arenaCount; i++) {
+      final RemoteServer server = this.servers.get(i % serverCount);
+      final List<RemotePlayer> arenaPlayers = new ArrayList<>();
+      final RemoteArena arena = arena(i, server, arenaPlayers, random);
+
+      arenasByServer.get(i % serverCount).add(arena);
+      playersByArena.put(arena, arenaPlayers);
+      this.arenas.add(arena);
+    }
+
+    for (int i = 0; i < playerCount; i++) {
+      final int serverIndex = random.nextInt(serverCount);
+      final RemoteServer server = this.servers.get(serverIndex);
+      final List<RemoteArena> serverArenas = arenasByServer.get(serverIndex);
+      // roughly two thirds of the players are inside a match
+      final RemoteArena arena = !serverArenas.isEmpty() && random.nextInt(3) != 0
+          ? serverArenas.get(random.nextInt(serverArenas.size()))
+          : null;
+      final RemotePlayer player = player(i, server, arena, random);
+
+      playersByServer.get(serverIndex).add(player);
+
+      if (arena != null)
+        playersByArena.get(arena).add(player);
+
+      this.players.add(player);
+    }
+
+    this.api = remoteAPI();
+  }
+
+  private RemoteAPI remoteAPI() {
+    final Map<UUID, RemotePlayer> playersByUUID = new HashMap<>(this.players.size() * 2);
+    final Map<String, RemotePlayer> playersByName = new HashMap<>(this.players.size() * 2);
+
+    for (RemotePlayer player : this.players) {
+      playersByUUID.put(player.getUniqueId(), player);
+      playersByName.put(player.getName().toLowerCase(Locale.ROOT), player);
+    }
+
+    return Fake.of(RemoteAPI.class)
+        .returns("getServers", Collections.unmodifiableList(this.servers))
+        .returns("getArenas", Collections.unmodifiableList(this.arenas))
+        .returns("getOnlinePlayers", Collections.unmodifiableList(this.players))
+        .returns("getLocalServer", this.servers.get(0))
+        .answers("getOnlinePlayer", args -> args[0] instanceof UUID
+            ? playersByUUID.get(args[0])
+            : playersByName.get(((String) args[0]).toLowerCase(Locale.ROOT)))
+        .build();
+  }
+
+  private static RemoteServer server(int index, List<RemoteArena> arenas, List<RemotePlayer> players) {
+    return Fake.of(RemoteServer.class)
+        .returns("getBungeeChannelName", "Server-" + index)
+        .returns("getPluginVersion", "5.5.5")
+        .returns("getAPIVersion", 205)
+        .returns("isHub", index == 0)
+        .returns("isLocal", index == 0)
+        .returns("getArenas", Collections.unmodifiableList(arenas))
+        .returns("getConnectedPlayers", Collections.unmodifiableList(players))
+        .answers("getArenaByExactRealName", args -> arenas.stream()
+            .filter(a -> a.getRealName().equals(args[0]))
+            .findFirst()
+            .orElse(null))
+        .build();
+  }
+
+  private static RemoteArena arena(int index, RemoteServer server, List<RemotePlayer> players, Random random) {
+    final Team[] teams = Team.values();
+    final int teamCount = Math.min(teams.length, 2 + random.nextInt(7));
+    final int playersPerTeam = 1 + random.nextInt(4);
+    final Set<Team> enabledTeams = EnumSet.noneOf(Team.class);
+    final ArenaStatus[] states = ArenaStatus.values();
+
+    enabledTeams.addAll(Arrays.asList(teams).subList(0, teamCount));
+
+    return Fake.of(RemoteArena.class)
+        .returns("getRealName", "Arena-" + index)
+        .returns("getDisplayName", "&aArena " + index)
+        .returns("getName", "Arena " + index)
+        .returns("getAuthors", new String[] { "Builder" + random.nextInt(50), "Builder" + random.nextInt(50) })
+        .returns("getDisplayedAuthors", "Builder Team")
+        .returns("isLocal", server.isLocal())
+        .returns("getRemoteServer", server)
+        .returns("getPlayersPerTeam", playersPerTeam)
+        .returns("getMinPlayers", 2)
+        .returns("getMaxPlayers", teamCount * playersPerTeam)
+        .returns("getIcon", new ItemStack(Material.STONE))
+        .returns("getGameWorldName", "world_arena_" + index)
+        .returns("getStatus", states[random.nextInt(states.length)])
+        .returns("getRemotePlayers", Collections.unmodifiableList(players))
+        .returns("getEnabledTeams", Collections.unmodifiableSet(enabledTeams))
+        .build();
+  }
+
+  private static RemotePlayer player(int index, RemoteServer server, RemoteArena arena, Random random) {
+    final boolean spectating = arena != null && random.nextInt(10) == 0;
+
+    return Fake.of(RemotePlayer.class)
+        .returns("getUniqueId", new UUID(random.nextLong(), random.nextLong()))
+        .returns("getName", "Player" + index)
+        .returns("getServer", server)
+        .returns("isPlaying", arena != null && !spectating)
+        .returns("isSpectating", spectating)
+        .returns("getArena", arena)
+        .build();
+  }
+
+  public static RemoteFixture create(int servers, int arenas, int players) {
+    return new RemoteFixture(servers, arenas, players, 42L);
+  }
+}
@@ -0,0 +1,54 @@
+package de.marcely.bedwars.restapi.perf.loadtest;
+
+import java.util.Arrays;
+
+// not thread-safe, each worker has its own ones
+public class LatencyRecorder {
+
+  private long[] nanos = new long[1024];
+  private int size;
+  private boolean sorted = true;
+  private long errors;
+
+  public void record(long nanos, boolean success) {
+    if (this.size == this.nanos.length)
+      this.nanos = Arrays.copyOf(this.nanos, this.size * 2);
+
+    this.nanos[this.size++] = nanos;
+    this.sorted = false;
+
+    if (!success)
+      this.errors++;
+  }
+
+  public void addAll(LatencyRecorder other) {
+    if (this.size + other.size > this.nanos.length)
+      this.nanos = Arrays.copyOf(this.nanos, Math.max(this.nanos.length * 2, this.size + other.size));
+
+    System.arraycopy(other.nanos, 0, this.nanos, this.size, other.size);
+    this.size += other.size;
+    this.sorted = false;
+    this.errors += other.errors;
+  }
+
+  public int getCount() {
+    return this.size;
+  }
+
+  public long getErrors() {
+    return this.errors;
+  }
+
+  // expects the percentile within 0 and 1
+  public long getPercentile(double percentile) {
+    if (this.size == 0)
+      return 0;
+
+    if (!this.sorted) {
+      Arrays.sort(this.nanos, 0, this.size);
+      this.sorted = true;
+    }
+
+    return this.nanos[Math.max(0, (int) Math.ceil(percentile * this.size) - 1)];
+  }
+}
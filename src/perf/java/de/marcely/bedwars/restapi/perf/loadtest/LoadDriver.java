@@ -0,0 +1,125 @@
+package de.marcely.bedwars.restapi.perf.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import lombok.Getter;
+
+// closed loop: each worker only sends its next request once it got the previous response
+public class LoadDriver {
+
+  private final HttpClient client;
+  private final String baseUrl;
+  private final String authorization;
+  private final boolean gzip;
+  private final Map<String, Function<Random, String>> endpoints;
+
+  public LoadDriver(HttpClient.Version version, String baseUrl, String authorization, boolean gzip, Map<String, Function<Random, String>> endpoints) {
+    this.client = HttpClient.newBuilder()
+        .version(version)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    this.baseUrl = baseUrl;
+    this.authorization = authorization;
+    this.gzip = gzip;
+    this.endpoints = endpoints;
+  }
+
+  public Result run(int concurrency, long warmupMillis, long durationMillis) throws InterruptedException {
+    final List<String> names = new ArrayList<>(this.endpoints.keySet());
+    final long measureStart = System.nanoTime() + warmupMillis * 1_000_000L;
+    final long measureEnd = measureStart + durationMillis * 1_000_000L;
+    final List<Map<String, LatencyRecorder>> recorders = new ArrayList<>(concurrency);
+    final List<Thread> workers = new ArrayList<>(concurrency);
+
+    for (int i = 0; i < concurrency; i++) {
+      final Map<String, LatencyRecorder> workerRecorders = new HashMap<>();
+      final int offset = i;
+      final Thread worker = new Thread(() -> {
+        final Random random = new Random(offset);
+
+        // round robin, so that every endpoint gets the same share of requests
+        for (int n = offset; ; n++) {
+          final String name = names.get(n % names.size());
+          final long start = System.nanoTime();
+
+          if (start >= measureEnd)
+            break;
+
+          final boolean success = send(this.endpoints.get(name).apply(random));
+
+          if (start >= measureStart)
+            workerRecorders.computeIfAbsent(name, g0 -> new LatencyRecorder()).record(System.nanoTime() - start, success);
+        }
+      }, "LoadDriver-" + i);
+
+      recorders.add(workerRecorders);
+      workers.add(worker);
+      worker.start();
+    }
+
+    for (Thread worker : workers)
+      worker.join();
+
+    final Map<String, LatencyRecorder> merged = new LinkedHashMap<>();
+
+    for (String name : names) {
+      final LatencyRecorder recorder = new LatencyRecorder();
+
+      for (Map<String, LatencyRecorder> workerRecorders : recorders) {
+        final LatencyRecorder workerRecorder = workerRecorders.get(name);
+
+        if (workerRecorder != null)
+          recorder.addAll(workerRecorder);
+      }
+
+      merged.put(name, recorder);
+    }
+
+    return new Result(merged, durationMillis);
+  }
+
+  private boolean send(String path) {
+    final HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(this.baseUrl + path))
+        .timeout(Duration.ofSeconds(30))
+        .GET();
+
+    if (this.authorization != null)
+      request.header("Authorization", this.authorization);
+    if (this.gzip)
+      request.header("Accept-Encoding", "gzip");
+
+    try {
+      final int status = this.client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+
+      return status == 200 || status == 304;
+    } catch (Exception e) {
+      if (e instanceof InterruptedException)
+        Thread.currentThread().interrupt();
+
+      return false;
+    }
+  }
+
+
+  @Getter
+  public static class Result {
+
+    private final Map<String, LatencyRecorder> endpoints;
+    private final long durationMillis;
+
+    Result(Map<String, LatencyRecorder> endpoints, long durationMillis) {
+      this.endpoints = endpoints;
+      this.durationMillis = durationMillis;
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package de.marcely.bedwars.restapi.perf.loadtest;
+
+import de.marcely.bedwars.api.player.PlayerStatSet;
+import de.marcely.bedwars.api.remote.RemoteArena;
+import de.marcely.bedwars.api.remote.RemotePlayer;
+import de.marcely.bedwars.restapi.Configs;
+import de.marcely.bedwars.restapi.auth.PasswordHash;
+import de.marcely.bedwars.restapi.auth.Permission;
+import de.marcely.bedwars.restapi.auth.User;
+import de.marcely.bedwars.restapi.model.misc.ArenaModel;
+import de.marcely.bedwars.restapi.perf.fixture.FakeBedwars;
+import de.marcely.bedwars.restapi.perf.fixture.FakeBukkit;
+import de.marcely.bedwars.restapi.perf.fixture.PlayerDataFixture;
+import de.marcely.bedwars.restapi.perf.fixture.RemoteFixture;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Boots the routes of the plugin against faked MBedwars data and drives load against them.
+// Options are passed as --name=value:
+//
+//   servers, arenas, players, stat-sets   size of the faked data
+//   storage-latency, storage-jitter       milliseconds until the faked storage responds
+//   concurrency                           parallel clients, each with one request in flight
+//   warmup, duration                      seconds
+//   endpoints                             comma separated, defaults to all of them
+//   auth                                  basic, basic-hashed or bearer
+//   gzip                                  whether the clients accept gzip
+//   port                                  port the server is started on
+//   config.<field>                        overrides a field of Configs, e.g. --config.virtualThreads=true
+public class LoadTest {
+
+  public static void main(String[] args) throws Exception {
+    final Map<String, String> options = parseOptions(args);
+    final int servers = Integer.parseInt(options.getOrDefault("servers", "10"));
+    final int arenas = Integer.parseInt(options.getOrDefault("arenas", "200"));
+    final int players = Integer.parseInt(options.getOrDefault("players", "2000"));
+    final int statSets = Integer.parseInt(options.getOrDefault("stat-sets", "40"));
+    final long storageLatency = Long.parseLong(options.getOrDefault("storage-latency", "5"));
+    final long storageJitter = Long.parseLong(options.getOrDefault("storage-jitter", "5"));
+    final int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+    final long warmup = Long.parseLong(options.getOrDefault("warmup", "10"));
+    final long duration = Long.parseLong(options.getOrDefault("duration", "30"));
+    final String auth = options.getOrDefault("auth", "basic");
+    final boolean gzip = Boolean.parseBoolean(options.getOrDefault("gzip", "true"));
+
+    // fake data
+    final RemoteFixture remote = RemoteFixture.create(servers, arenas, players);
+    final PlayerDataFixture playerData = PlayerDataFixture.create(remote.getPlayers(), statSets);
+
+    FakeBukkit.install();
+    FakeBedwars.install(remote.getApi(), playerData.getApi());
+    playerData.simulateStorage(FakeBukkit.getMainThread(), storageLatency, storageJitter);
+
+    // the data folder is empty, so Configs.load() keeps (and writes) whatever is set here
+    Configs.host = "127.0.0.1";
+    Configs.port = Integer.parseInt(options.getOrDefault("port", "18084"));
+    Configs.rateLimitEnabled = false;
+
+    for (Map.Entry<String, String> e : options.entrySet()) {
+      if (e.getKey().startsWith("config."))
+        setConfig(e.getKey().substring("config.".length()), e.getValue());
+    }
+
+    final File dataFolder = Files.createTempDirectory("restapi-loadtest").toFile();
+    final LoadTestPlugin plugin = new LoadTestPlugin(dataFolder);
+
+    plugin.onLoad();
+    plugin.onEnable();
+
+    try {
+      final Map<String, Function<Random, String>> endpoints = filterEndpoints(
+          createEndpoints(remote, playerData),
+          options.get("endpoints"));
+      final LoadDriver driver = new LoadDriver(
+          Configs.http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1,
+          "http://" + Configs.host + ":" + Configs.port,
+          authorize(plugin, auth),
+          gzip,
+          endpoints);
+
+      System.out.printf(Locale.ROOT, "Running %d clients against %d endpoints for %ds (+%ds warmup). %d servers, %d arenas, %d players, %d stat sets, %d+%dms storage latency%n",
+          concurrency, endpoints.size(), duration, warmup, servers, arenas, players, statSets, storageLatency, storageJitter);
+
+      print(driver.run(concurrency, warmup * 1000L, duration * 1000L));
+    } finally {
+      plugin.onDisable();
+    }
+
+    System.exit(0);
+  }
+
+  private static Map<String, Function<Random, String>> createEndpoints(RemoteFixture remote, PlayerDataFixture playerData) {
+    final List<RemotePlayer> players = remote.getPlayers();
+    final List<RemoteArena> arenas = remote.getArenas();
+    final List<String> statSetIds = playerData.getStatSets().stream()
+        .map(PlayerStatSet::getId)
+        .collect(Collectors.toList());
+    final Map<String, Function<Random, String>> endpoints = new LinkedHashMap<>();
+    final Function<Random, RemotePlayer> randomPlayer = r -> players.get(r.nextInt(players.size()));
+    final Function<Random, String> randomStatSets = r -> String.join(",", statSetIds.subList(0, Math.min(statSetIds.size(), 1 + r.nextInt(3))));
+
+    endpoints.put("hello", r -> "/");
+    endpoints.put("servers", r -> "/servers");
+    endpoints.put("server", r -> "/servers/" + remote.getServers().get(r.nextInt(remote.getServers().size())).getBungeeChannelName());
+    endpoints.put("arenas", r -> "/arenas");
+    endpoints.put("arena", r -> "/arenas/" + ArenaModel.toRestId(arenas.get(r.nextInt(arenas.size()))));
+    endpoints.put("players-online", r -> "/players/online");
+    endpoints.put("players-online-pages", r -> "/players/online/pages?limit=100");
+    endpoints.put("player-online", r -> "/players/online/" + randomPlayer.apply(r).getUniqueId());
+    endpoints.put("player-uuid", r -> "/players/uuid/" + randomPlayer.apply(r).getName());
+    endpoints.put("stats", r -> "/players/stats/" + randomPlayer.apply(r).getUniqueId());
+    endpoints.put("stats-positions", r -> "/players/stats/" + randomPlayer.apply(r).getUniqueId() + "/leaderboard?statSets=" + randomStatSets.apply(r));
+    endpoints.put("stat-sets", r -> "/players/stat-sets");
+    endpoints.put("leaderboard", r -> {
+      final int minPos = 1 + r.nextInt(10) * 10;
+
+      return "/players/stats-leaderboard?statSets=" + randomStatSets.apply(r) + "&minPos=" + minPos + "&maxPos=" + (minPos + 9);
+    });
+    endpoints.put("leaderboard-pages", r -> "/players/stats-leaderboard/pages?statSets=" + randomStatSets.apply(r) + "&limit=10");
+    endpoints.put("achievements", r -> "/players/achievements/" + randomPlayer.apply(r).getUniqueId());
+    endpoints.put("achievement-types", r -> "/players/achievement-types");
+    endpoints.put("properties", r -> "/players/properties/" + randomPlayer.apply(r).getUniqueId());
+    endpoints.put("metrics", r -> "/metrics");
+
+    return endpoints;
+  }
+
+  private static Map<String, Function<Random, String>> filterEndpoints(Map<String, Function<Random, String>> endpoints, String filter) {
+    if (filter == null || filter.isEmpty())
+      return endpoints;
+
+    final Map<String, Function<Random, String>> filtered = new LinkedHashMap<>();
+
+    for (String name : filter.split(",")) {
+      final Function<Random, String> endpoint = endpoints.get(name.trim());
+
+      if (endpoint == null)
+        throw new IllegalArgumentException("Unknown endpoint " + name + ". Available: " + String.join(", ", endpoints.keySet()));
+
+      filtered.put(name.trim(), endpoint);
+    }
+
+    return filtered;
+  }
+
+  private static String authorize(LoadTestPlugin plugin, String auth) {
+    final char[] password = "loadtest-password".toCharArray();
+
+    switch (auth) {
+      case "basic":
+      case "basic-hashed":
+        plugin.getAuthController().add(new User(
+            "loadtest",
+            auth.equals("basic-hashed") ? PasswordHash.hash(password) : password,
+            Permission.fetchAll()));
+
+        return "Basic " + Base64.getEncoder().encodeToString(("loadtest:" + new String(password)).getBytes(StandardCharsets.UTF_8));
+
+      case "bearer":
+        return "Bearer " + plugin.getAuthController().getTokens().issue("loadtest", Permission.fetchAll(), null).getSecret();
+
+      default:
+        throw new IllegalArgumentException("Unknown auth " + auth + ". Available: basic, basic-hashed, bearer");
+    }
+  }
+
+  private static void setConfig(String name, String value) throws ReflectiveOperationException {
+    final Field field = Configs.class.getField(name);
+    final Class<?> type = field.getType();
+
+    if (type == int.class)
+      field.setInt(null, Integer.parseInt(value));
+    else if (type == long.class)
+      field.setLong(null, Long.parseLong(value));
+    else if (type == boolean.class)
+      field.setBoolean(null, Boolean.parseBoolean(value));
+    else if (type == String.class)
+      field.set(null, value);
+    else if (type.isEnum())
+      field.set(null, Enum.valueOf(type.asSubclass(Enum.class), value.toUpperCase(Locale.ROOT)));
+    else
+      throw new IllegalArgumentException("Config " + name + " of type " + type.getSimpleName() + " can't be set from the command line");
+  }
+
+  private static void print(LoadDriver.Result result) {
+    final double seconds = result.getDurationMillis() / 1000D;
+    final LatencyRecorder total = new LatencyRecorder();
+
+    System.out.printf(Locale.ROOT, "%n%-18s %10s %8s %10s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+
+    for (Map.Entry<String, LatencyRecorder> e : result.getEndpoints().entrySet()) {
+      print(e.getKey(), e.getValue(), seconds);
+      total.addAll(e.getValue());
+    }
+
+    print("total", total, seconds);
+  }
+
+  private static void print(String name, LatencyRecorder recorder, double seconds) {
+    System.out.printf(Locale.ROOT, "%-18s %10d %8d %10.1f %9.2f %9.2f %9.2f%n",
+        name,
+        recorder.getCount(),
+        recorder.getErrors(),
+        recorder.getCount() / seconds,
+        recorder.getPercentile(0.5) / 1_000_000D,
+        recorder.getPercentile(0.99) / 1_000_000D,
+        recorder.getPercentile(1) / 1_000_000D);
+  }
+
+  private static Map<String, String> parseOptions(String[] args) {
+    final Map<String, String> options = new LinkedHashMap<>();
+
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("="))
+        throw new IllegalArgumentException("Expected --name=value, got " + arg + ". Known options: " + Arrays.toString(new String[] {
+            "servers", "arenas", "players", "stat-sets", "storage-latency", "storage-jitter", "concurrency",
+            "warmup", "duration", "endpoints", "auth", "gzip", "port", "config.<field>" }));
+
+      final int split = arg.indexOf('=');
+
+      options.put(arg.substring(2, split), arg.substring(split + 1));
+    }
+
+    return options;
+  }
+}
@@ -0,0 +1,29 @@
+package de.marcely.bedwars.restapi.perf.loadtest;
+
+import de.marcely.bedwars.restapi.RestApiPlugin;
+import java.io.File;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+// the plugin without MBedwars. requires FakeBukkit and FakeBedwars to be installed
+public class LoadTestPlugin extends RestApiPlugin {
+
+  public LoadTestPlugin(File dataFolder) {
+    super(
+        new JavaPluginLoader(Bukkit.getServer()),
+        new PluginDescriptionFile("MBedwars-RestAPI", "loadtest", RestApiPlugin.class.getName()),
+        dataFolder,
+        new File(dataFolder, "RestAPI.jar"));
+  }
+
+  @Override
+  public void onEnable() {
+    enable();
+  }
+
+  @Override
+  public File getAddonDataFolder() {
+    return getDataFolder();
+  }
+}